@@ -15,7 +15,11 @@
  */
 package org.springframework.hateoas;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.plugin.core.Plugin;
+import org.springframework.util.Assert;
 
 /**
  * Accessor to links pointing to controllers backing an entity type. The {@link IllegalArgumentException} potentially
@@ -92,6 +96,30 @@ public interface EntityLinks extends Plugin<Class<?>> {
 	 */
 	Link linkToSingleResource(Class<?> type, Object id);
 
+	/**
+	 * Creates {@link Link}s pointing to the single resources backing the given entity type and ids. Equivalent to calling
+	 * {@link #linkToSingleResource(Class, Object)} for each of the given ids but allows implementations to resolve the
+	 * URI of the collection resource only once.
+	 * 
+	 * @param type the entity type to point to, must not be {@literal null}.
+	 * @param ids the identifiers of the entities of the given type, must not be {@literal null}.
+	 * @return the {@link Link}s pointing to the resources exposed for the entities with the given type and ids in the
+	 *         order of the given ids. Will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given type is unknown the entity links infrastructure.
+	 */
+	default List<Link> linksToSingleResources(Class<?> type, Iterable<?> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		List<Link> links = new ArrayList<Link>();
+
+		for (Object id : ids) {
+			links.add(linkToSingleResource(type, id));
+		}
+
+		return links;
+	}
+
 	/**
 	 * Creates a {@link Link} pointing to single resource backing the given entity. The relation type of the link will be
 	 * determined by the implementation class and should be defaulted to {@link Link#REL_SELF}.
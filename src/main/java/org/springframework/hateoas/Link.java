@@ -16,33 +16,36 @@
 package org.springframework.hateoas;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Value;
 import lombok.experimental.Wither;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 /**
  * Value object for links.
+ * <p>
+ * As resources usually carry many links, instances are kept compact: the optional attributes ({@code hreflang},
+ * {@code media}, {@code title}, {@code type} and {@code deprecation}) are held in a separate object that all links
+ * without any of them share, links without affordances share the same empty list and the hash code is calculated
+ * only once.
  * 
  * @author Oliver Gierke
  * @author Greg Turnquist
@@ -50,13 +53,11 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 @XmlType(name = "link", namespace = Link.ATOM_NAMESPACE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(value = "templated", ignoreUnknown = true)
-@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@JsonPropertyOrder({ "rel", "href", "hreflang", "media", "title", "type", "deprecation" })
 @Getter
-@EqualsAndHashCode(of = { "rel", "href", "hreflang", "media", "title", "deprecation", "affordances" })
 public class Link implements Serializable {
 
 	private static final long serialVersionUID = -9037755944661782121L;
-	private static final String URI_PATTERN = "(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
 
 	public static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
 
@@ -66,15 +67,12 @@ public class Link implements Serializable {
 	public static final String REL_NEXT = "next";
 	public static final String REL_LAST = "last";
 
-	private @XmlAttribute @Wither String rel;
-	private @XmlAttribute @Wither String href;
-	private @XmlAttribute @Wither String hreflang;
-	private @XmlAttribute @Wither String media;
-	private @XmlAttribute @Wither String title;
-	private @XmlAttribute @Wither String type;
-	private @XmlAttribute @Wither String deprecation;
+	private @XmlAttribute String rel;
+	private @XmlAttribute String href;
 	private @XmlTransient @JsonIgnore UriTemplate template;
 	private @XmlTransient @JsonIgnore List<Affordance> affordances;
+	private @XmlTransient @JsonIgnore @Getter(AccessLevel.NONE) Attributes attributes;
+	private transient @Getter(AccessLevel.NONE) int hash;
 
 	/**
 	 * Creates a new link to the given URI with the self rel.
@@ -93,7 +91,17 @@ public class Link implements Serializable {
 	 * @param rel must not be {@literal null} or empty.
 	 */
 	public Link(String href, String rel) {
-		this(new UriTemplate(href), rel);
+
+		Assert.hasText(href, "Href must not be null or empty!");
+		Assert.hasText(rel, "Rel must not be null or empty!");
+
+		// Plain URIs are taken as is, the template is only compiled once it's needed
+
+		this.template = isTemplateCandidate(href) ? UriTemplate.of(href) : null;
+		this.href = template == null ? href : template.toString();
+		this.rel = LinkRelation.of(rel).value();
+		this.affordances = Collections.emptyList();
+		this.attributes = Attributes.NONE;
 	}
 
 	/**
@@ -109,8 +117,9 @@ public class Link implements Serializable {
 
 		this.template = template;
 		this.href = template.toString();
-		this.rel = rel;
-		this.affordances = new ArrayList<Affordance>();
+		this.rel = LinkRelation.of(rel).value();
+		this.affordances = Collections.emptyList();
+		this.attributes = Attributes.NONE;
 	}
 
 	public Link(String href, String rel, List<Affordance> affordances) {
@@ -126,7 +135,68 @@ public class Link implements Serializable {
 	 * Empty constructor required by the marshalling framework.
 	 */
 	protected Link() {
-		this.affordances = new ArrayList<Affordance>();
+
+		this.affordances = Collections.emptyList();
+		this.attributes = Attributes.NONE;
+	}
+
+	private Link(String rel, String href, UriTemplate template, List<Affordance> affordances, Attributes attributes) {
+
+		this.rel = rel;
+		this.href = href;
+		this.template = template;
+		this.affordances = affordances;
+		this.attributes = Attributes.NONE.equals(attributes) ? Attributes.NONE : attributes;
+	}
+
+	/**
+	 * Returns the language of the resource the {@link Link} points to.
+	 * 
+	 * @return can be {@literal null}.
+	 */
+	@XmlAttribute
+	public String getHreflang() {
+		return attributes.getHreflang();
+	}
+
+	/**
+	 * Returns the media the linked resource is designed for.
+	 * 
+	 * @return can be {@literal null}.
+	 */
+	@XmlAttribute
+	public String getMedia() {
+		return attributes.getMedia();
+	}
+
+	/**
+	 * Returns the human readable title of the {@link Link}.
+	 * 
+	 * @return can be {@literal null}.
+	 */
+	@XmlAttribute
+	public String getTitle() {
+		return attributes.getTitle();
+	}
+
+	/**
+	 * Returns the media type of the resource the {@link Link} points to.
+	 * 
+	 * @return can be {@literal null}.
+	 */
+	@XmlAttribute
+	public String getType() {
+		return attributes.getType();
+	}
+
+	/**
+	 * Returns the URL describing the deprecation of the {@link Link}.
+	 * 
+	 * @return can be {@literal null}.
+	 */
+	@XmlAttribute
+	public String getDeprecation() {
+		return attributes.getDeprecation();
 	}
 
 	/**
@@ -135,7 +205,95 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public List<Affordance> getAffordances() {
-		return Collections.unmodifiableList(this.affordances);
+
+		// The shared empty list is immutable already
+
+		return affordances == Collections.<Affordance> emptyList() //
+				? affordances //
+				: Collections.unmodifiableList(affordances);
+	}
+
+	/**
+	 * Returns a {@link Link} pointing to the same URI but with the given rel.
+	 * 
+	 * @param rel can be {@literal null}.
+	 * @return
+	 */
+	public Link withRel(String rel) {
+		return this.rel == rel ? this : new Link(rel, href, template, affordances, attributes);
+	}
+
+	/**
+	 * Returns a {@link Link} with the same rel but pointing to the given URI.
+	 * 
+	 * @param href can be {@literal null}.
+	 * @return
+	 */
+	public Link withHref(String href) {
+		return this.href == href ? this : new Link(rel, href, null, affordances, attributes);
+	}
+
+	/**
+	 * Returns a copy of the {@link Link} with the given language of the linked resource.
+	 * 
+	 * @param hreflang can be {@literal null}.
+	 * @return
+	 */
+	public Link withHreflang(String hreflang) {
+		return withAttributes(attributes.withHreflang(hreflang));
+	}
+
+	/**
+	 * Returns a copy of the {@link Link} with the given media.
+	 * 
+	 * @param media can be {@literal null}.
+	 * @return
+	 */
+	public Link withMedia(String media) {
+		return withAttributes(attributes.withMedia(media));
+	}
+
+	/**
+	 * Returns a copy of the {@link Link} with the given title.
+	 * 
+	 * @param title can be {@literal null}.
+	 * @return
+	 */
+	public Link withTitle(String title) {
+		return withAttributes(attributes.withTitle(title));
+	}
+
+	/**
+	 * Returns a copy of the {@link Link} with the given media type of the linked resource.
+	 * 
+	 * @param type can be {@literal null}.
+	 * @return
+	 */
+	public Link withType(String type) {
+		return withAttributes(attributes.withType(type));
+	}
+
+	/**
+	 * Returns a copy of the {@link Link} with the given deprecation URL.
+	 * 
+	 * @param deprecation can be {@literal null}.
+	 * @return
+	 */
+	public Link withDeprecation(String deprecation) {
+		return withAttributes(attributes.withDeprecation(deprecation));
+	}
+
+	/**
+	 * Returns a {@link Link} pointing to the same URI but with the given {@link LinkRelation}.
+	 * 
+	 * @param relation must not be {@literal null}.
+	 * @return
+	 */
+	public Link withRel(LinkRelation relation) {
+
+		Assert.notNull(relation, "LinkRelation must not be null!");
+
+		return withRel(relation.value());
 	}
 
 	/**
@@ -157,7 +315,7 @@ public class Link implements Serializable {
 
 		Assert.notNull(affordance, "Affordance must not be null!");
 
-		List<Affordance> newAffordances = new ArrayList<Affordance>();
+		List<Affordance> newAffordances = new ArrayList<Affordance>(this.affordances.size() + 1);
 		newAffordances.addAll(this.affordances);
 		newAffordances.add(affordance);
 
@@ -172,7 +330,7 @@ public class Link implements Serializable {
 	 */
 	public Link andAffordances(List<Affordance> affordances) {
 
-		List<Affordance> newAffordances = new ArrayList<Affordance>();
+		List<Affordance> newAffordances = new ArrayList<Affordance>(this.affordances.size() + affordances.size());
 		newAffordances.addAll(this.affordances);
 		newAffordances.addAll(affordances);
 
@@ -187,8 +345,11 @@ public class Link implements Serializable {
 	 */
 	public Link withAffordances(List<Affordance> affordances) {
 
-		return new Link(this.rel, this.href, this.hreflang, this.media, this.title, this.type, this.deprecation,
-				this.template, affordances);
+		return new Link(this.rel, this.href, this.template, affordances, this.attributes);
+	}
+
+	private Link withAttributes(Attributes attributes) {
+		return this.attributes == attributes ? this : new Link(rel, href, template, affordances, attributes);
 	}
 
 	/**
@@ -198,7 +359,7 @@ public class Link implements Serializable {
 	 */
 	@JsonIgnore
 	public List<String> getVariableNames() {
-		return getUriTemplate().getVariableNames();
+		return isTemplateCandidate(href) ? getUriTemplate().getVariableNames() : Collections.emptyList();
 	}
 
 	/**
@@ -208,7 +369,7 @@ public class Link implements Serializable {
 	 */
 	@JsonIgnore
 	public List<TemplateVariable> getVariables() {
-		return getUriTemplate().getVariables();
+		return isTemplateCandidate(href) ? getUriTemplate().getVariables() : Collections.emptyList();
 	}
 
 	/**
@@ -217,7 +378,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public boolean isTemplated() {
-		return !getUriTemplate().getVariables().isEmpty();
+		return isTemplateCandidate(href) && !getUriTemplate().getVariables().isEmpty();
 	}
 
 	/**
@@ -253,45 +414,131 @@ public class Link implements Serializable {
 		return this.rel.equals(rel);
 	}
 
+	/**
+	 * Returns whether the current {@link Link} has the given {@link LinkRelation}.
+	 * 
+	 * @param relation must not be {@literal null}.
+	 * @return
+	 */
+	public boolean hasRel(LinkRelation relation) {
+
+		Assert.notNull(relation, "LinkRelation must not be null!");
+
+		return hasRel(relation.value());
+	}
+
+	/**
+	 * Returns the {@link LinkRelation} of the {@link Link}.
+	 * 
+	 * @return
+	 */
+	@JsonIgnore
+	public LinkRelation getRelation() {
+		return LinkRelation.of(rel);
+	}
+
 	private UriTemplate getUriTemplate() {
 
 		if (template == null) {
-			this.template = new UriTemplate(href);
+			this.template = UriTemplate.of(href);
 		}
 
 		return template;
 	}
 
+	/**
+	 * Returns whether the given href might be a URI template, i.e. whether it contains an opening brace at all.
+	 * 
+	 * @param href can be {@literal null}.
+	 * @return
+	 */
+	private static boolean isTemplateCandidate(String href) {
+		return href != null && href.indexOf('{') != -1;
+	}
+
+	/**
+	 * Appends the RFC 8288 representation of the {@link Link} to the given {@link StringBuilder}, i.e. the format used
+	 * for {@code Link} headers.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 */
+	public StringBuilder appendTo(StringBuilder builder) {
+
+		Assert.notNull(builder, "StringBuilder must not be null!");
+
+		builder.append('<').append(href).append('>');
+
+		appendParameter(builder, "rel", rel);
+		appendParameter(builder, "hreflang", attributes.getHreflang());
+		appendParameter(builder, "media", attributes.getMedia());
+		appendParameter(builder, "title", attributes.getTitle());
+		appendParameter(builder, "type", attributes.getType());
+		appendParameter(builder, "deprecation", attributes.getDeprecation());
+
+		return builder;
+	}
+
 	/*
 	 * (non-Javadoc)
-	 * @see java.lang.Object#toString()
+	 * @see java.lang.Object#equals(java.lang.Object)
 	 */
 	@Override
-	public String toString() {
+	public boolean equals(Object obj) {
 
-		String linkString = String.format("<%s>;rel=\"%s\"", href, rel);
-
-		if (hreflang != null) {
-			linkString += ";hreflang=\"" + hreflang + "\"";
+		if (this == obj) {
+			return true;
 		}
 
-		if (media != null) {
-			linkString += ";media=\"" + media + "\"";
+		if (!(obj instanceof Link)) {
+			return false;
 		}
 
-		if (title != null) {
-			linkString += ";title=\"" + title + "\"";
-		}
+		Link that = (Link) obj;
 
-		if (type != null) {
-			linkString += ";type=\"" + type + "\"";
-		}
+		// Affordances last, so that lazily calculated ones are only resolved if all other attributes match
+
+		return ObjectUtils.nullSafeEquals(this.href, that.href) //
+				&& ObjectUtils.nullSafeEquals(this.rel, that.rel) //
+				&& ObjectUtils.nullSafeEquals(this.getHreflang(), that.getHreflang()) //
+				&& ObjectUtils.nullSafeEquals(this.getMedia(), that.getMedia()) //
+				&& ObjectUtils.nullSafeEquals(this.getTitle(), that.getTitle()) //
+				&& ObjectUtils.nullSafeEquals(this.getDeprecation(), that.getDeprecation()) //
+				&& ObjectUtils.nullSafeEquals(this.affordances, that.affordances);
+	}
 
-		if (deprecation != null) {
-			linkString += ";deprecation=\"" + deprecation + "\"";
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = hash;
+
+		if (result == 0) {
+
+			result = 17;
+			result = 31 * result + ObjectUtils.nullSafeHashCode(rel);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(href);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(getHreflang());
+			result = 31 * result + ObjectUtils.nullSafeHashCode(getMedia());
+			result = 31 * result + ObjectUtils.nullSafeHashCode(getTitle());
+			result = 31 * result + ObjectUtils.nullSafeHashCode(getDeprecation());
+
+			this.hash = result;
 		}
 
-		return linkString;
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return appendTo(new StringBuilder(64)).toString();
 	}
 
 	/**
@@ -309,67 +556,76 @@ public class Link implements Serializable {
 			return null;
 		}
 
-		Pattern uriAndAttributes = Pattern.compile("<(.*)>;(.*)");
-		Matcher matcher = uriAndAttributes.matcher(element);
+		return LinkHeaderParser.parseLink(element);
+	}
+
+	/**
+	 * Appends the given parameter as quoted string unless the value is {@literal null}.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 */
+	private static void appendParameter(StringBuilder builder, String name, String value) {
+
+		if (value == null) {
+			return;
+		}
+
+		builder.append(';').append(name).append("=\"");
 
-		if (matcher.find()) {
+		for (int i = 0; i < value.length(); i++) {
 
-			Map<String, String> attributes = getAttributeMap(matcher.group(2));
+			char c = value.charAt(i);
 
-			if (!attributes.containsKey("rel")) {
-				throw new IllegalArgumentException("Link does not provide a rel attribute!");
+			if (c == '"' || c == '\\') {
+				builder.append('\\');
 			}
 
-			Link link = new Link(matcher.group(1), attributes.get("rel"));
+			builder.append(c);
+		}
 
-			if (attributes.containsKey("hreflang")) {
-				link = link.withHreflang(attributes.get("hreflang"));
-			}
+		builder.append('"');
+	}
 
-			if (attributes.containsKey("media")) {
-				link = link.withMedia(attributes.get("media"));
-			}
+	// Mutators for the marshalling frameworks to populate instances created through the default constructor
 
-			if (attributes.containsKey("title")) {
-				link = link.withTitle(attributes.get("title"));
-			}
+	private void setHreflang(String hreflang) {
+		this.attributes = attributes.withHreflang(hreflang);
+	}
 
-			if (attributes.containsKey("type")) {
-				link = link.withType(attributes.get("type"));
-			}
+	private void setMedia(String media) {
+		this.attributes = attributes.withMedia(media);
+	}
 
-			if (attributes.containsKey("deprecation")) {
-				link = link.withDeprecation(attributes.get("deprecation"));
-			}
+	private void setTitle(String title) {
+		this.attributes = attributes.withTitle(title);
+	}
 
-			return link;
+	private void setType(String type) {
+		this.attributes = attributes.withType(type);
+	}
 
-		} else {
-			throw new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", element));
-		}
+	private void setDeprecation(String deprecation) {
+		this.attributes = attributes.withDeprecation(deprecation);
 	}
 
 	/**
-	 * Parses the links attributes from the given source {@link String}.
-	 * 
-	 * @param source
-	 * @return
+	 * The optional attributes of a {@link Link}. All links not using any of them share {@link #NONE}.
+	 *
+	 * @author Oliver Gierke
 	 */
-	private static Map<String, String> getAttributeMap(String source) {
+	@Value
+	private static class Attributes implements Serializable {
 
-		if (!StringUtils.hasText(source)) {
-			return Collections.emptyMap();
-		}
+		private static final long serialVersionUID = -5870465380446358937L;
 
-		Map<String, String> attributes = new HashMap<String, String>();
-		Pattern keyAndValue = Pattern
-				.compile("(\\w+)=\"(\\p{Lower}[\\p{Lower}\\p{Digit}\\.\\-\\s]*|" + URI_PATTERN + ")\"");
-		Matcher matcher = keyAndValue.matcher(source);
-
-		while (matcher.find()) {
-			attributes.put(matcher.group(1), matcher.group(2));
-		}
+		static final Attributes NONE = new Attributes(null, null, null, null, null);
 
-		return attributes;
+		@Wither String hreflang;
+		@Wither String media;
+		@Wither String title;
+		@Wither String type;
+		@Wither String deprecation;
 	}
 }
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Single pass parser for {@code Link} header values as defined in RFC 8288. Reads a comma separated list of link
+ * values, each consisting of a URI reference in angle brackets followed by parameters whose values can be tokens or
+ * quoted strings. Commas and semicolons within the URI reference or a quoted string don't separate links or
+ * parameters.
+ *
+ * @author Oliver Gierke
+ * @see https://tools.ietf.org/html/rfc8288#section-3
+ */
+class LinkHeaderParser {
+
+	private final String source;
+	private final boolean strict;
+	private int position;
+
+	private LinkHeaderParser(String source, boolean strict) {
+
+		this.source = source;
+		this.strict = strict;
+		this.position = 0;
+	}
+
+	/**
+	 * Parses all links contained in the given header value. Elements that don't start with a URI reference in angle
+	 * brackets or don't provide a {@code rel} parameter are skipped.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static List<Link> parseLinks(String source) {
+
+		LinkHeaderParser parser = new LinkHeaderParser(source, false);
+		List<Link> links = new ArrayList<>();
+
+		for (Link link = parser.next(); link != null; link = parser.next()) {
+			links.add(link);
+		}
+
+		return links;
+	}
+
+	/**
+	 * Parses the first link contained in the given header value.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if the given value is not a valid link or doesn't provide a {@code rel} parameter.
+	 */
+	static Link parseLink(String source) {
+
+		LinkHeaderParser parser = new LinkHeaderParser(source, true);
+		Link link = parser.next();
+
+		if (link == null) {
+			throw parser.invalid();
+		}
+
+		return link;
+	}
+
+	/**
+	 * Returns the next {@link Link} or {@literal null} if the end of the source has been reached.
+	 *
+	 * @return
+	 */
+	private Link next() {
+
+		while (position < source.length()) {
+
+			skipWhitespaceAnd(',');
+
+			if (position == source.length()) {
+				return null;
+			}
+
+			if (source.charAt(position) != '<') {
+
+				if (strict) {
+					throw invalid();
+				}
+
+				skipElement();
+				continue;
+			}
+
+			int end = source.indexOf('>', position + 1);
+
+			if (end == -1) {
+
+				if (strict) {
+					throw invalid();
+				}
+
+				return null;
+			}
+
+			String href = source.substring(position + 1, end);
+			position = end + 1;
+
+			Link link = readParameters(href);
+
+			if (link != null) {
+				return link;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Reads the parameters following the URI reference up to the end of the current element and creates a {@link Link}
+	 * from them. Only the first occurrence of a parameter is considered, unknown parameters are ignored.
+	 *
+	 * @param href the URI reference of the link.
+	 * @return the {@link Link} or {@literal null} if the element is malformed and the parser is not strict.
+	 */
+	private Link readParameters(String href) {
+
+		String rel = null, hreflang = null, media = null, title = null, type = null, deprecation = null;
+
+		while (true) {
+
+			skipWhitespace();
+
+			if (position == source.length() || source.charAt(position) == ',') {
+				break;
+			}
+
+			if (source.charAt(position) != ';') {
+
+				if (strict) {
+					throw invalid();
+				}
+
+				skipElement();
+				return null;
+			}
+
+			position++;
+			skipWhitespace();
+
+			String name = readToken().toLowerCase(Locale.US);
+			String value = "";
+
+			skipWhitespace();
+
+			if (position < source.length() && source.charAt(position) == '=') {
+
+				position++;
+				skipWhitespace();
+
+				value = position < source.length() && source.charAt(position) == '"' ? readQuotedString() : readToken();
+			}
+
+			switch (name) {
+				case "rel":
+					rel = rel == null ? value : rel;
+					break;
+				case "hreflang":
+					hreflang = hreflang == null ? value : hreflang;
+					break;
+				case "media":
+					media = media == null ? value : media;
+					break;
+				case "title":
+					title = title == null ? value : title;
+					break;
+				case "type":
+					type = type == null ? value : type;
+					break;
+				case "deprecation":
+					deprecation = deprecation == null ? value : deprecation;
+					break;
+				default:
+			}
+		}
+
+		if (rel == null || rel.isEmpty()) {
+
+			if (strict) {
+				throw new IllegalArgumentException("Link does not provide a rel attribute!");
+			}
+
+			return null;
+		}
+
+		Link link = new Link(href, rel);
+
+		link = hreflang == null ? link : link.withHreflang(hreflang);
+		link = media == null ? link : link.withMedia(media);
+		link = title == null ? link : link.withTitle(title);
+		link = type == null ? link : link.withType(type);
+		link = deprecation == null ? link : link.withDeprecation(deprecation);
+
+		return link;
+	}
+
+	/**
+	 * Reads a token, i.e. everything up to the next whitespace, separator or equals sign.
+	 *
+	 * @return
+	 */
+	private String readToken() {
+
+		int start = position;
+
+		while (position < source.length()) {
+
+			char c = source.charAt(position);
+
+			if (c == ';' || c == ',' || c == '=' || Character.isWhitespace(c)) {
+				break;
+			}
+
+			position++;
+		}
+
+		return source.substring(start, position);
+	}
+
+	/**
+	 * Reads a quoted string starting at the current position, resolving escaped characters.
+	 *
+	 * @return
+	 */
+	private String readQuotedString() {
+
+		int start = ++position;
+		StringBuilder builder = null;
+
+		while (position < source.length()) {
+
+			char c = source.charAt(position);
+
+			if (c == '"') {
+
+				String value = builder == null //
+						? source.substring(start, position) //
+						: builder.append(source, start, position).toString();
+				position++;
+
+				return value;
+			}
+
+			if (c == '\\' && position + 1 < source.length()) {
+
+				builder = builder == null ? new StringBuilder() : builder;
+				builder.append(source, start, position);
+				start = ++position;
+			}
+
+			position++;
+		}
+
+		if (strict) {
+			throw invalid();
+		}
+
+		return builder == null ? source.substring(start) : builder.append(source, start, position).toString();
+	}
+
+	/**
+	 * Skips everything up to the next comma that is not part of a URI reference or a quoted string.
+	 */
+	private void skipElement() {
+
+		while (position < source.length()) {
+
+			char c = source.charAt(position);
+
+			if (c == ',') {
+				return;
+			}
+
+			if (c == '"') {
+				readQuotedString();
+				continue;
+			}
+
+			if (c == '<') {
+
+				int end = source.indexOf('>', position + 1);
+				position = end == -1 ? source.length() : end + 1;
+				continue;
+			}
+
+			position++;
+		}
+	}
+
+	private void skipWhitespace() {
+
+		while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+			position++;
+		}
+	}
+
+	private void skipWhitespaceAnd(char separator) {
+
+		while (position < source.length()
+				&& (source.charAt(position) == separator || Character.isWhitespace(source.charAt(position)))) {
+			position++;
+		}
+	}
+
+	private IllegalArgumentException invalid() {
+		return new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", source));
+	}
+}
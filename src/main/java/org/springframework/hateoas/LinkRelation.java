@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Value object for a link relation type. Instances are interned through {@link #of(String)}, so that relations with the
+ * same value usually are the same instance, which makes comparing them an identity check in the common case. Whether
+ * the relation is defined by the IANA and its hash code are calculated once when the instance is created.
+ *
+ * @author Oliver Gierke
+ * @see IanaRels
+ */
+public final class LinkRelation implements Serializable {
+
+	private static final long serialVersionUID = 3270468432512624340L;
+	private static final Map<String, LinkRelation> RELATIONS = new ConcurrentReferenceHashMap<>();
+
+	public static final LinkRelation SELF = of(Link.REL_SELF);
+	public static final LinkRelation FIRST = of(Link.REL_FIRST);
+	public static final LinkRelation PREVIOUS = of(Link.REL_PREVIOUS);
+	public static final LinkRelation NEXT = of(Link.REL_NEXT);
+	public static final LinkRelation LAST = of(Link.REL_LAST);
+
+	private final String value;
+	private final boolean ianaRel;
+	private final int hash;
+	private transient volatile Namespaced namespaced;
+
+	private LinkRelation(String value) {
+
+		this.value = value;
+		this.ianaRel = IanaRels.isIanaRel(value);
+		this.hash = value.hashCode();
+	}
+
+	/**
+	 * Returns the {@link LinkRelation} for the given value.
+	 *
+	 * @param value must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public static LinkRelation of(String value) {
+
+		Assert.hasText(value, "Link relation must not be null or empty!");
+
+		return RELATIONS.computeIfAbsent(value, LinkRelation::new);
+	}
+
+	/**
+	 * Returns the relation type as {@link String}. The instance returned is the same for all usages of the
+	 * {@link LinkRelation}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public String value() {
+		return value;
+	}
+
+	/**
+	 * Returns whether the relation type is defined by the IANA.
+	 *
+	 * @return
+	 * @see IanaRels#isIanaRel(String)
+	 */
+	public boolean isIanaRel() {
+		return ianaRel;
+	}
+
+	/**
+	 * Returns whether the relation type is already prefixed with a curie, i.e. it contains a colon.
+	 *
+	 * @return
+	 */
+	public boolean isCuried() {
+		return value.indexOf(':') != -1;
+	}
+
+	/**
+	 * Returns the relation type prefixed with the given curie unless it is an IANA relation or already curied. The
+	 * prefixed value is kept for the curie used last, as an application usually uses a single default curie.
+	 *
+	 * @param curie must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public String getNamespacedValue(String curie) {
+
+		Assert.hasText(curie, "Curie must not be null or empty!");
+
+		if (ianaRel || isCuried()) {
+			return value;
+		}
+
+		Namespaced namespaced = this.namespaced;
+
+		if (namespaced == null || !namespaced.curie.equals(curie)) {
+
+			namespaced = new Namespaced(curie, curie.concat(":").concat(value));
+			this.namespaced = namespaced;
+		}
+
+		return namespaced.value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof LinkRelation)) {
+			return false;
+		}
+
+		// Instances might have been created independently once the registry dropped an entry
+
+		LinkRelation that = (LinkRelation) obj;
+
+		return this.hash == that.hash && this.value.equals(that.value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value;
+	}
+
+	/**
+	 * Resolves deserialized instances to the interned one.
+	 *
+	 * @return
+	 */
+	private Object readResolve() {
+		return of(value);
+	}
+
+	/**
+	 * The relation type prefixed with a particular curie.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Namespaced {
+
+		private final String curie;
+		private final String value;
+
+		Namespaced(String curie, String value) {
+
+			this.curie = curie;
+			this.value = value;
+		}
+	}
+}
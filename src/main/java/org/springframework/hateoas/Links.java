@@ -15,16 +15,14 @@
  */
 package org.springframework.hateoas;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -35,8 +33,6 @@ import org.springframework.util.StringUtils;
  */
 public class Links implements Iterable<Link> {
 
-	private static final Pattern LINK_HEADER_PATTERN = Pattern.compile("(<[^>]*>(;\\s*\\w+=\"[^\"]*\")+)");
-
 	static final Links NO_LINKS = new Links(Collections.emptyList());
 
 	private final List<Link> links;
@@ -95,7 +91,7 @@ public class Links implements Iterable<Link> {
 	/**
 	 * Creates a {@link Links} instance from the given RFC5988-compatible link format.
 	 * 
-	 * @param source a comma separated list of {@link Link} representations.
+	 * @param source a comma separated list of {@link Link} representations, elements that are not a link are skipped.
 	 * @return the {@link Links} represented by the given {@link String}.
 	 */
 	public static Links valueOf(String source) {
@@ -104,19 +100,7 @@ public class Links implements Iterable<Link> {
 			return NO_LINKS;
 		}
 
-		Matcher matcher = LINK_HEADER_PATTERN.matcher(source);
-		List<Link> links = new ArrayList<>();
-
-		while (matcher.find()) {
-
-			Link link = Link.valueOf(matcher.group());
-
-			if (link != null) {
-				links.add(link);
-			}
-		}
-
-		return new Links(links);
+		return new Links(LinkHeaderParser.parseLinks(source));
 	}
 
 	/**
@@ -128,13 +112,36 @@ public class Links implements Iterable<Link> {
 		return links.isEmpty();
 	}
 
+	/**
+	 * Appends the RFC 8288 representation of all {@link Link}s, separated by commas, to the given {@link StringBuilder}.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 * @see Link#appendTo(StringBuilder)
+	 */
+	public StringBuilder appendTo(StringBuilder builder) {
+
+		Assert.notNull(builder, "StringBuilder must not be null!");
+
+		for (int i = 0; i < links.size(); i++) {
+
+			if (i > 0) {
+				builder.append(',');
+			}
+
+			links.get(i).appendTo(builder);
+		}
+
+		return builder;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
-		return StringUtils.collectionToCommaDelimitedString(links);
+		return appendTo(new StringBuilder(links.size() * 64)).toString();
 	}
 
 	/* 
@@ -18,6 +18,7 @@ package org.springframework.hateoas;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
 import javax.xml.bind.annotation.XmlAttribute;
@@ -70,6 +71,41 @@ public class PagedResources<T> extends Resources<T> {
 		this.metadata = metadata;
 	}
 
+	/**
+	 * Creates a new {@link PagedResources} instance that uses the given {@link Collection} as content without copying
+	 * it. Changes to the given {@link Collection} will be reflected by the {@link PagedResources}, so it must not be
+	 * modified while the {@link PagedResources} is in use.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param metadata
+	 * @param links the links to be added to the {@link PagedResources}.
+	 * @return
+	 * @see Resources#adopt(Collection, Link...)
+	 */
+	public static <T> PagedResources<T> adopt(Collection<T> content, PageMetadata metadata, Link... links) {
+
+		PagedResources<T> resources = new PagedResources<T>(Collections.<T> emptyList(), metadata, links);
+		resources.adoptContent(content);
+
+		return resources;
+	}
+
+	/**
+	 * Creates a new {@link PagedResources} instance whose content is a view on the given source {@link Collection} that
+	 * converts each element using the given {@link ResourceAssembler} when it is iterated.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param metadata
+	 * @param links the links to be added to the {@link PagedResources}.
+	 * @return
+	 * @see Resources#mapped(Collection, ResourceAssembler, Link...)
+	 */
+	public static <S, T extends ResourceSupport> PagedResources<T> mapped(Collection<S> source,
+			ResourceAssembler<? super S, ? extends T> assembler, PageMetadata metadata, Link... links) {
+		return adopt(new MappedCollection<S, T>(source, assembler), metadata, links);
+	}
+
 	/**
 	 * Returns the pagination metadata.
 	 * 
@@ -91,13 +127,15 @@ public class PagedResources<T> extends Resources<T> {
 	public static <T extends Resource<S>, S> PagedResources<T> wrap(Iterable<S> content, PageMetadata metadata) {
 
 		Assert.notNull(content, "Content must not be null!");
-		ArrayList<T> resources = new ArrayList<T>();
+		ArrayList<T> resources = content instanceof Collection //
+				? new ArrayList<T>(((Collection<S>) content).size()) //
+				: new ArrayList<T>();
 
 		for (S element : content) {
 			resources.add((T) new Resource<S>(element));
 		}
 
-		return new PagedResources<T>(resources, metadata);
+		return adopt(resources, metadata);
 	}
 
 	/**
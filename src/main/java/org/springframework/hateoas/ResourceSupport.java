@@ -15,13 +15,18 @@
  */
 package org.springframework.hateoas;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
 
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 
 import org.springframework.util.Assert;
 
@@ -36,10 +41,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class ResourceSupport implements Identifiable<Link> {
 
-	private final List<Link> links;
+	private final IndexedLinks links;
 
 	public ResourceSupport() {
-		this.links = new ArrayList<>();
+		this.links = new IndexedLinks();
 	}
 
 	/**
@@ -96,7 +101,23 @@ public class ResourceSupport implements Identifiable<Link> {
 	 * @return
 	 */
 	public boolean hasLink(String rel) {
-		return getLink(rel).isPresent();
+
+		Assert.hasText(rel, "Link relation must not be null or empty!");
+
+		return links.getIndex().containsKey(rel);
+	}
+
+	/**
+	 * Returns whether the resource contains a {@link Link} with the given {@link LinkRelation}.
+	 * 
+	 * @param relation must not be {@literal null}.
+	 * @return
+	 */
+	public boolean hasLink(LinkRelation relation) {
+
+		Assert.notNull(relation, "LinkRelation must not be null!");
+
+		return hasLink(relation.value());
 	}
 
 	/**
@@ -110,6 +131,19 @@ public class ResourceSupport implements Identifiable<Link> {
 		return links;
 	}
 
+	/**
+	 * Returns all {@link Link}s contained in this resource grouped by their relation. The groups are ordered by the
+	 * first occurrence of their relation, the links within a group keep the order in which they were added. The grouping
+	 * is maintained as the links are modified, so that lookups don't have to scan all links.
+	 * 
+	 * @return an unmodifiable view of the grouping, will never be {@literal null}.
+	 */
+	@JsonIgnore
+	@XmlTransient
+	public Map<String, List<Link>> getLinksByRel() {
+		return links.getGroups();
+	}
+
 	/**
 	 * Removes all {@link Link}s added to the resource so far.
 	 */
@@ -125,9 +159,24 @@ public class ResourceSupport implements Identifiable<Link> {
 	 */
 	public Optional<Link> getLink(String rel) {
 
-		return links.stream() //
-				.filter(link -> link.hasRel(rel)) //
-				.findFirst();
+		Assert.hasText(rel, "Link relation must not be null or empty!");
+
+		List<Link> links = this.links.getIndex().get(rel);
+
+		return links == null ? Optional.empty() : Optional.of(links.get(0));
+	}
+
+	/**
+	 * Returns the link with the given {@link LinkRelation}.
+	 * 
+	 * @param relation must not be {@literal null}.
+	 * @return the link with the given relation or {@link Optional#empty()} if none found.
+	 */
+	public Optional<Link> getLink(LinkRelation relation) {
+
+		Assert.notNull(relation, "LinkRelation must not be null!");
+
+		return getLink(relation.value());
 	}
 
 	/**
@@ -150,9 +199,11 @@ public class ResourceSupport implements Identifiable<Link> {
 	 */
 	public List<Link> getLinks(String rel) {
 
-		return links.stream() //
-				.filter(link -> link.hasRel(rel)) //
-				.collect(Collectors.toList());
+		Assert.hasText(rel, "Link relation must not be null or empty!");
+
+		List<Link> links = this.links.getIndex().get(rel);
+
+		return links == null ? new ArrayList<>() : new ArrayList<>(links);
 	}
 
 	/* 
@@ -192,4 +243,138 @@ public class ResourceSupport implements Identifiable<Link> {
 	public int hashCode() {
 		return this.links.hashCode();
 	}
+
+	/**
+	 * {@link List} of {@link Link}s that maintains an index of the links by their relation. The index is updated on every
+	 * modification, so that lookups only read it and a resource that is not modified anymore can be rendered by multiple
+	 * threads concurrently.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class IndexedLinks extends AbstractList<Link> implements RandomAccess {
+
+		private final List<Link> links = new ArrayList<>();
+		private final Map<String, List<Link>> index = new LinkedHashMap<>();
+		private final Map<String, List<Link>> groups = new LinkedHashMap<>();
+		private final Map<String, List<Link>> groupsView = Collections.unmodifiableMap(groups);
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#get(int)
+		 */
+		@Override
+		public Link get(int index) {
+			return links.get(index);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return links.size();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#add(int, java.lang.Object)
+		 */
+		@Override
+		public void add(int index, Link link) {
+
+			Assert.notNull(link, "Link must not be null!");
+
+			links.add(index, link);
+			modCount++;
+
+			if (index == links.size() - 1) {
+				addToIndex(link);
+			} else {
+				reindex();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#set(int, java.lang.Object)
+		 */
+		@Override
+		public Link set(int index, Link link) {
+
+			Assert.notNull(link, "Link must not be null!");
+
+			Link previous = links.set(index, link);
+			reindex();
+
+			return previous;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#remove(int)
+		 */
+		@Override
+		public Link remove(int index) {
+
+			Link removed = links.remove(index);
+			modCount++;
+			reindex();
+
+			return removed;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#clear()
+		 */
+		@Override
+		public void clear() {
+
+			links.clear();
+			modCount++;
+			reindex();
+		}
+
+		/**
+		 * Returns an unmodifiable view of the links grouped by relation.
+		 *
+		 * @return
+		 */
+		Map<String, List<Link>> getGroups() {
+			return groupsView;
+		}
+
+		/**
+		 * Returns the links grouped by relation. The returned {@link Map} must not be modified.
+		 *
+		 * @return
+		 */
+		Map<String, List<Link>> getIndex() {
+			return index;
+		}
+
+		private void addToIndex(Link link) {
+
+			List<Link> links = index.get(link.getRel());
+
+			if (links == null) {
+
+				links = new ArrayList<>();
+
+				index.put(link.getRel(), links);
+				groups.put(link.getRel(), Collections.unmodifiableList(links));
+			}
+
+			links.add(link);
+		}
+
+		private void reindex() {
+
+			index.clear();
+			groups.clear();
+
+			links.forEach(this::addToIndex);
+		}
+	}
 }
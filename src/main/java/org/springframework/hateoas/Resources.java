@@ -15,6 +15,7 @@
  */
 package org.springframework.hateoas;
 
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -37,7 +38,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 @XmlRootElement(name = "entities")
 public class Resources<T> extends ResourceSupport implements Iterable<T> {
 
-	private final Collection<T> content;
+	private Collection<T> content;
+	private transient Collection<T> contentView;
 
 	/**
 	 * Creates an empty {@link Resources} instance.
@@ -66,14 +68,54 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 
 		Assert.notNull(content, "Content must not be null!");
 
-		this.content = new ArrayList<T>();
+		if (content instanceof Collection) {
+			this.content = new ArrayList<T>((Collection<T>) content);
+		} else {
 
-		for (T element : content) {
-			this.content.add(element);
+			this.content = new ArrayList<T>();
+
+			for (T element : content) {
+				this.content.add(element);
+			}
 		}
+
 		this.add(links);
 	}
 
+	/**
+	 * Creates a new {@link Resources} instance that uses the given {@link Collection} as content without copying it.
+	 * Changes to the given {@link Collection} will be reflected by the {@link Resources}, so it must not be modified
+	 * while the {@link Resources} is in use.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param links the links to be added to the {@link Resources}.
+	 * @return
+	 */
+	public static <T> Resources<T> adopt(Collection<T> content, Link... links) {
+
+		Resources<T> resources = new Resources<T>(Collections.<T> emptyList(), links);
+		resources.adoptContent(content);
+
+		return resources;
+	}
+
+	/**
+	 * Creates a new {@link Resources} instance whose content is a view on the given source {@link Collection} that
+	 * converts each element using the given {@link ResourceAssembler} when it is iterated. Neither the source nor the
+	 * converted elements are copied into a new {@link Collection}. The elements are converted again on every iteration, so
+	 * the returned {@link Resources} is meant to be rendered once. Comparing it using {@link #equals(Object)} or
+	 * {@link #hashCode()} converts the elements, too.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param links the links to be added to the {@link Resources}.
+	 * @return
+	 */
+	public static <S, T extends ResourceSupport> Resources<T> mapped(Collection<S> source,
+			ResourceAssembler<? super S, ? extends T> assembler, Link... links) {
+		return adopt(new MappedCollection<S, T>(source, assembler), links);
+	}
+
 	/**
 	 * Creates a new {@link Resources} instance by wrapping the given domain class instances into a {@link Resource}.
 	 * 
@@ -84,17 +126,32 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 	public static <T extends Resource<S>, S> Resources<T> wrap(Iterable<S> content) {
 
 		Assert.notNull(content, "Content must not be null!");
-		ArrayList<T> resources = new ArrayList<T>();
+		ArrayList<T> resources = content instanceof Collection //
+				? new ArrayList<T>(((Collection<S>) content).size()) //
+				: new ArrayList<T>();
 
 		for (S element : content) {
 			resources.add((T) new Resource<S>(element));
 		}
 
-		return new Resources<T>(resources);
+		return adopt(resources);
 	}
 
 	/**
-	 * Returns the underlying elements.
+	 * Uses the given {@link Collection} as content as is, i.e. without copying it.
+	 * 
+	 * @param content must not be {@literal null}.
+	 */
+	void adoptContent(Collection<T> content) {
+
+		Assert.notNull(content, "Content must not be null!");
+
+		this.content = content;
+	}
+
+	/**
+	 * Returns the underlying elements. {@link StreamedContent} is returned as is so that renderers can detect and write it
+	 * element by element.
 	 * 
 	 * @return the content will never be {@literal null}.
 	 */
@@ -102,7 +159,20 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 	@XmlElementWrapper
 	@JsonProperty("content")
 	public Collection<T> getContent() {
-		return Collections.unmodifiableCollection(content);
+
+		if (content instanceof StreamedContent) {
+			return content;
+		}
+
+		Collection<T> contentView = this.contentView;
+
+		if (contentView == null) {
+
+			contentView = new ContentView();
+			this.contentView = contentView;
+		}
+
+		return contentView;
 	}
 
 	/* 
@@ -140,7 +210,10 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 
 		Resources<?> that = (Resources<?>) obj;
 
-		boolean contentEqual = this.content == null ? that.content == null : this.content.equals(that.content);
+		Collection<?> content = this.getComparableContent();
+		Collection<?> thatContent = that.getComparableContent();
+
+		boolean contentEqual = content == null ? thatContent == null : content.equals(thatContent);
 		return contentEqual ? super.equals(obj) : false;
 	}
 
@@ -151,9 +224,142 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 	@Override
 	public int hashCode() {
 
+		Collection<T> content = getComparableContent();
+
 		int result = super.hashCode();
 		result += content == null ? 0 : 17 * content.hashCode();
 
 		return result;
 	}
+
+	/**
+	 * Returns the content to compare and hash, i.e. the converted elements in case of mapped content, as
+	 * {@link MappedCollection} doesn't implement {@link #equals(Object)} and {@link #hashCode()} itself.
+	 * 
+	 * @return
+	 */
+	private Collection<T> getComparableContent() {
+		return content instanceof MappedCollection ? new ArrayList<T>(content) : content;
+	}
+
+	/**
+	 * Unmodifiable view on the content. It always reads the current content as that is replaced reflectively on
+	 * deserialization and when post-processing the elements.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private class ContentView extends AbstractCollection<T> {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#iterator()
+		 */
+		@Override
+		public Iterator<T> iterator() {
+
+			Iterator<T> iterator = content.iterator();
+
+			return new Iterator<T>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public T next() {
+					return iterator.next();
+				}
+			};
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return content.size();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#contains(java.lang.Object)
+		 */
+		@Override
+		public boolean contains(Object o) {
+			return content.contains(o);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#toString()
+		 */
+		@Override
+		public String toString() {
+			return content.toString();
+		}
+	}
+
+	/**
+	 * {@link Collection} converting the elements of a source {@link Collection} using a {@link ResourceAssembler} while
+	 * being iterated.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static class MappedCollection<S, T extends ResourceSupport> extends AbstractCollection<T> {
+
+		private final Collection<S> source;
+		private final ResourceAssembler<? super S, ? extends T> assembler;
+
+		MappedCollection(Collection<S> source, ResourceAssembler<? super S, ? extends T> assembler) {
+
+			Assert.notNull(source, "Source must not be null!");
+			Assert.notNull(assembler, "ResourceAssembler must not be null!");
+
+			this.source = source;
+			this.assembler = assembler;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#iterator()
+		 */
+		@Override
+		public Iterator<T> iterator() {
+
+			Iterator<S> iterator = source.iterator();
+
+			return new Iterator<T>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public T next() {
+					return assembler.toResource(iterator.next());
+				}
+			};
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return source.size();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("MappedCollection { source: %s }", source);
+		}
+	}
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.Closeable;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link Collection} backed by a {@link Stream} or an {@link Iterator} to be used as content of {@link Resources}, e.g.
+ * for results read from a database cursor:
+ *
+ * <pre>
+ * Resources.adopt(StreamedContent.of(people.map(assembler::toResource)).withRel("people"));
+ * </pre>
+ *
+ * The elements can only be iterated once. Renderers writing them one by one, like the HAL one, thus never hold more
+ * than a single element in memory. {@link #size()} however reads all remaining elements into memory, so that renderers
+ * that need to know the number of elements up front still work. The underlying source is closed once all elements have
+ * been read or {@link #close()} is called. Instances are not thread-safe.
+ *
+ * @author Oliver Gierke
+ */
+public final class StreamedContent<T> extends AbstractCollection<T> implements Closeable {
+
+	private static final String ALREADY_ITERATED = "Streamed content can only be iterated once!";
+
+	private final Iterator<? extends T> source;
+	private final Runnable closeHandler;
+	private final String rel;
+
+	private boolean iterated, closed, peeked;
+	private T next;
+	private List<T> buffer;
+
+	private StreamedContent(Iterator<? extends T> source, Runnable closeHandler, String rel) {
+
+		this.source = source;
+		this.closeHandler = closeHandler;
+		this.rel = rel;
+	}
+
+	/**
+	 * Creates a new {@link StreamedContent} for the given {@link Stream}. The {@link Stream} is closed once all elements
+	 * have been read.
+	 *
+	 * @param stream must not be {@literal null}.
+	 * @return
+	 */
+	public static <T> StreamedContent<T> of(Stream<T> stream) {
+
+		Assert.notNull(stream, "Stream must not be null!");
+
+		return new StreamedContent<T>(stream.iterator(), stream::close, null);
+	}
+
+	/**
+	 * Creates a new {@link StreamedContent} for the given {@link Iterator}. If the {@link Iterator} is
+	 * {@link AutoCloseable}, it is closed once all elements have been read.
+	 *
+	 * @param iterator must not be {@literal null}.
+	 * @return
+	 */
+	public static <T> StreamedContent<T> of(Iterator<T> iterator) {
+
+		Assert.notNull(iterator, "Iterator must not be null!");
+
+		return new StreamedContent<T>(iterator, () -> {
+
+			if (!(iterator instanceof AutoCloseable)) {
+				return;
+			}
+
+			try {
+				((AutoCloseable) iterator).close();
+			} catch (Exception o_O) {
+				throw new IllegalStateException("Could not close iterator!", o_O);
+			}
+
+		}, null);
+	}
+
+	/**
+	 * Returns a new {@link StreamedContent} declaring the given relation type to be used for all elements. Without a
+	 * declared relation type, renderers derive it from the first element.
+	 *
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 */
+	public StreamedContent<T> withRel(String rel) {
+
+		Assert.hasText(rel, "Rel must not be null or empty!");
+		Assert.state(!iterated && !peeked && buffer == null, "Streamed content has already been read from!");
+
+		return new StreamedContent<T>(source, closeHandler, rel);
+	}
+
+	/**
+	 * Returns the declared relation type for the elements.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public String getRel() {
+		return rel;
+	}
+
+	/**
+	 * Returns the first element without consuming it.
+	 *
+	 * @return the first element or {@literal null} if there are no elements.
+	 * @throws IllegalStateException in case the elements have already been iterated.
+	 */
+	public T peek() {
+
+		if (buffer != null) {
+			return buffer.isEmpty() ? null : buffer.get(0);
+		}
+
+		Assert.state(!iterated, ALREADY_ITERATED);
+
+		if (!peeked && hasMoreElements()) {
+			next = source.next();
+			peeked = true;
+		}
+
+		return next;
+	}
+
+	/**
+	 * Returns a new {@link StreamedContent} that applies the given {@link Function} to each element when it is read. The
+	 * current instance must not be used afterwards.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 */
+	public <S> StreamedContent<S> map(Function<? super T, ? extends S> mapper) {
+
+		Assert.notNull(mapper, "Mapper must not be null!");
+
+		Iterator<T> iterator = iterator();
+
+		return new StreamedContent<S>(new Iterator<S>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public S next() {
+				return mapper.apply(iterator.next());
+			}
+
+		}, this::close, rel);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#iterator()
+	 */
+	@Override
+	public Iterator<T> iterator() {
+
+		if (buffer != null) {
+			return Collections.unmodifiableList(buffer).iterator();
+		}
+
+		Assert.state(!iterated, ALREADY_ITERATED);
+
+		this.iterated = true;
+
+		return new Iterator<T>() {
+
+			@Override
+			public boolean hasNext() {
+				return hasMoreElements();
+			}
+
+			@Override
+			public T next() {
+				return nextElement();
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+
+		if (buffer != null) {
+			return buffer.isEmpty();
+		}
+
+		Assert.state(!iterated, ALREADY_ITERATED);
+
+		return !hasMoreElements();
+	}
+
+	/**
+	 * Returns the number of elements. As that is not known up front, all remaining elements are read into memory.
+	 *
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+
+		if (buffer == null) {
+
+			Assert.state(!iterated, ALREADY_ITERATED);
+
+			List<T> elements = new ArrayList<T>();
+
+			while (hasMoreElements()) {
+				elements.add(nextElement());
+			}
+
+			this.buffer = elements;
+		}
+
+		return buffer.size();
+	}
+
+	/**
+	 * Closes the underlying source. No further elements will be read.
+	 *
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		this.closed = true;
+		this.closeHandler.run();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#toString()
+	 */
+	@Override
+	public String toString() {
+		return buffer != null ? buffer.toString() : String.format("StreamedContent { rel: %s }", rel);
+	}
+
+	private boolean hasMoreElements() {
+
+		if (peeked) {
+			return true;
+		}
+
+		if (!closed && source.hasNext()) {
+			return true;
+		}
+
+		close();
+
+		return false;
+	}
+
+	private T nextElement() {
+
+		if (!hasMoreElements()) {
+			throw new NoSuchElementException();
+		}
+
+		if (!peeked) {
+			return source.next();
+		}
+
+		T element = next;
+
+		this.peeked = false;
+		this.next = null;
+
+		return element;
+	}
+}
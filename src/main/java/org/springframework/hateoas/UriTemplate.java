@@ -17,61 +17,102 @@ package org.springframework.hateoas;
 
 import java.io.Serializable;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map.Entry;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
- * Custom URI template to support qualified URI template variables.
- * 
+ * Custom URI template to support qualified URI template variables. The template is compiled into a sequence of
+ * literals and expressions once, supporting all operators and value modifiers of RFC 6570 up to level 4. Expanding
+ * the template appends the literals and the expanded expressions to a single buffer.
+ * <p>
+ * Values are encoded as defined by RFC 6570, i.e. simple expressions like {@code {id}} percent-encode all reserved
+ * characters including {@code /}, {@code :} and {@code @}, so that a value can't change the structure of the URI.
+ * Previous versions kept those characters. Use reserved expansion ({@code {+id}}) to expand values containing
+ * reserved characters as is.
+ *
  * @author Oliver Gierke
  * @see http://tools.ietf.org/html/rfc6570
  * @since 0.9
  */
 public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
-	private static final Pattern VARIABLE_REGEX = Pattern.compile("\\{([\\?\\&#/]?)([\\w\\,]+)\\}");
 	private static final long serialVersionUID = -1007874653930162262L;
 
+	private static final boolean[] UNRESERVED = new boolean[128];
+	private static final boolean[] RESERVED = new boolean[128];
+
+	static {
+
+		for (char c = 'a'; c <= 'z'; c++) {
+			UNRESERVED[c] = true;
+			UNRESERVED[Character.toUpperCase(c)] = true;
+		}
+
+		for (char c = '0'; c <= '9'; c++) {
+			UNRESERVED[c] = true;
+		}
+
+		for (char c : "-._~".toCharArray()) {
+			UNRESERVED[c] = true;
+		}
+
+		for (char c : ":/?#[]@!$&'()*+,;=".toCharArray()) {
+			RESERVED[c] = true;
+		}
+	}
+
+	private static final int CACHE_LIMIT = 1024;
+	private static final Map<String, UriTemplate> CACHE = new ConcurrentReferenceHashMap<>();
+
 	private final TemplateVariables variables;
-	private String baseUri;
+	private final String baseUri;
+	private final String template;
+	private final List<Part> parts;
 
 	/**
 	 * Creates a new {@link UriTemplate} using the given template string.
-	 * 
+	 *
 	 * @param template must not be {@literal null} or empty.
 	 */
 	public UriTemplate(String template) {
 
 		Assert.hasText(template, "Template must not be null or empty!");
 
-		Matcher matcher = VARIABLE_REGEX.matcher(template);
-		int baseUriEndIndex = template.length();
+		List<Part> parts = parse(template);
 		List<TemplateVariable> variables = new ArrayList<>();
+		int baseUriEndIndex = template.length();
 
-		while (matcher.find()) {
+		for (Part part : parts) {
 
-			int start = matcher.start(0);
+			if (!(part instanceof Expression)) {
+				continue;
+			}
 
-			VariableType type = VariableType.from(matcher.group(1));
-			String[] names = matcher.group(2).split(",");
+			Expression expression = (Expression) part;
 
-			for (String name : names) {
-				TemplateVariable variable = new TemplateVariable(name, type);
+			for (VariableSpec spec : expression.specs) {
 
-				if (!variable.isRequired() && start < baseUriEndIndex) {
-					baseUriEndIndex = start;
+				TemplateVariable variable = spec.variable;
+
+				if (!variable.isRequired() && expression.start < baseUriEndIndex) {
+					baseUriEndIndex = expression.start;
 				}
 
 				variables.add(variable);
@@ -80,11 +121,13 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		this.variables = variables.isEmpty() ? TemplateVariables.NONE : new TemplateVariables(variables);
 		this.baseUri = template.substring(0, baseUriEndIndex);
+		this.parts = parts;
+		this.template = render(parts);
 	}
 
 	/**
 	 * Creates a new {@link UriTemplate} from the given base URI and {@link TemplateVariables}.
-	 * 
+	 *
 	 * @param baseUri must not be {@literal null} or empty.
 	 * @param variables defaults to {@link TemplateVariables#NONE}.
 	 */
@@ -94,11 +137,52 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		this.baseUri = baseUri;
 		this.variables = variables == null ? TemplateVariables.NONE : variables;
+		this.parts = parse(baseUri + getOptionalVariables().toString(hasQuery(baseUri)));
+		this.template = render(parts);
+	}
+
+	private UriTemplate(String baseUri, TemplateVariables variables, List<Part> parts) {
+
+		this.baseUri = baseUri;
+		this.variables = variables;
+		this.parts = parts;
+		this.template = render(parts);
+	}
+
+	/**
+	 * Returns the {@link UriTemplate} for the given template string. Templates containing expressions are compiled once
+	 * and shared, as {@link UriTemplate}s are immutable. The cache is bounded so that a large number of distinct
+	 * templates doesn't exhaust the memory, plain URIs are never cached.
+	 *
+	 * @param template must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public static UriTemplate of(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty!");
+
+		if (template.indexOf('{') == -1) {
+			return new UriTemplate(template);
+		}
+
+		UriTemplate cached = CACHE.get(template);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		UriTemplate result = new UriTemplate(template);
+
+		if (CACHE.size() < CACHE_LIMIT) {
+			CACHE.put(template, result);
+		}
+
+		return result;
 	}
 
 	/**
 	 * Creates a new {@link UriTemplate} with the current {@link TemplateVariable}s augmented with the given ones.
-	 * 
+	 *
 	 * @param variables can be {@literal null}.
 	 * @return will never be {@literal null}.
 	 */
@@ -127,12 +211,40 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			result.add(variable);
 		}
 
-		return new UriTemplate(baseUri, this.variables.concat(result));
+		TemplateVariables merged = this.variables.concat(result);
+		List<TemplateVariable> added = merged.asList().subList(this.variables.asList().size(), merged.asList().size());
+
+		if (added.isEmpty()) {
+			return this;
+		}
+
+		// Append the new variables to the already compiled parts to keep the modifiers of the existing expressions
+
+		List<Part> parts = new ArrayList<>(this.parts);
+
+		for (Part part : parse(new TemplateVariables(added).toString(hasQuery(template)))) {
+
+			Part last = parts.isEmpty() ? null : parts.get(parts.size() - 1);
+
+			if (last instanceof Expression && part instanceof Expression) {
+
+				Expression combined = ((Expression) last).combine((Expression) part);
+
+				if (combined != null) {
+					parts.set(parts.size() - 1, combined);
+					continue;
+				}
+			}
+
+			parts.add(part);
+		}
+
+		return new UriTemplate(baseUri, merged, Collections.unmodifiableList(parts));
 	}
 
 	/**
 	 * Creates a new {@link UriTemplate} with a {@link TemplateVariable} with the given name and type added.
-	 * 
+	 *
 	 * @param variableName must not be {@literal null} or empty.
 	 * @param type must not be {@literal null}.
 	 * @return will never be {@literal null}.
@@ -143,22 +255,22 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 	/**
 	 * Returns whether the given candidate is a URI template.
-	 * 
+	 *
 	 * @param candidate
 	 * @return
 	 */
 	public static boolean isTemplate(String candidate) {
 
-		if (!StringUtils.hasText(candidate)) {
+		if (!StringUtils.hasText(candidate) || candidate.indexOf('{') == -1) {
 			return false;
 		}
 
-		return VARIABLE_REGEX.matcher(candidate).find();
+		return parse(candidate).stream().anyMatch(Expression.class::isInstance);
 	}
 
 	/**
 	 * Returns the {@link TemplateVariable}s discovered.
-	 * 
+	 *
 	 * @return
 	 */
 	public List<TemplateVariable> getVariables() {
@@ -167,7 +279,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 	/**
 	 * Returns the names of the variables discovered.
-	 * 
+	 *
 	 * @return
 	 */
 	public List<String> getVariableNames() {
@@ -179,55 +291,34 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	/**
 	 * Expands the {@link UriTemplate} using the given parameters. The values will be applied in the order of the
 	 * variables discovered.
-	 * 
+	 *
 	 * @param parameters
 	 * @return
 	 * @see #expand(Map)
 	 */
 	public URI expand(Object... parameters) {
 
-		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
-		}
-
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
-		Iterator<Object> iterator = Arrays.asList(parameters).iterator();
-
-		for (TemplateVariable variable : getOptionalVariables()) {
+		Iterator<Object> iterator = parameters == null //
+				? Collections.emptyIterator() //
+				: Arrays.asList(parameters).iterator();
 
-			Object value = iterator.hasNext() ? iterator.next() : null;
-			appendToBuilder(builder, variable, value);
-		}
-
-		return builder.build().toUri();
+		return URI.create(expandToString(name -> iterator.hasNext() ? iterator.next() : null));
 	}
 
 	/**
 	 * Expands the {@link UriTemplate} using the given parameters.
-	 * 
+	 *
 	 * @param parameters must not be {@literal null}.
 	 * @return
 	 */
 	public URI expand(Map<String, ? extends Object> parameters) {
 
-		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
-		}
-
 		Assert.notNull(parameters, "Parameters must not be null!");
 
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
-
-		for (TemplateVariable variable : getOptionalVariables()) {
-			appendToBuilder(builder, variable, parameters.get(variable.getName()));
-		}
-
-		return builder.build().toUri();
+		return URI.create(expandToString(parameters::get));
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Iterable#iterator()
 	 */
@@ -236,17 +327,32 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 		return this.variables.iterator();
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
+		return template;
+	}
 
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
-		boolean hasQueryParameters = !components.getQueryParams().isEmpty();
+	/**
+	 * Expands the template looking up the values of the variables in the order of their declaration using the given
+	 * {@link Function}.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return
+	 */
+	private String expandToString(Function<String, ? extends Object> values) {
 
-		return baseUri + getOptionalVariables().toString(hasQueryParameters);
+		StringBuilder builder = new StringBuilder(template.length() + 16);
+		boolean query = false;
+
+		for (Part part : parts) {
+			query = part.expand(builder, values, query);
+		}
+
+		return builder.toString();
 	}
 
 	private TemplateVariables getOptionalVariables() {
@@ -257,36 +363,592 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	}
 
 	/**
-	 * Appends the value for the given {@link TemplateVariable} to the given {@link UriComponentsBuilder}.
-	 * 
+	 * Returns whether the given URI contains a non-empty query.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean hasQuery(String uri) {
+
+		int fragmentIndex = uri.indexOf('#');
+		int queryIndex = uri.indexOf('?');
+		int end = fragmentIndex == -1 ? uri.length() : fragmentIndex;
+
+		return queryIndex != -1 && queryIndex < end - 1;
+	}
+
+	private static String render(List<Part> parts) {
+
+		StringBuilder builder = new StringBuilder();
+		boolean query = false;
+
+		for (Part part : parts) {
+			query = part.render(builder, query);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Splits the given template into {@link Literal}s and {@link Expression}s. Braces not enclosing a valid expression
+	 * are considered part of the surrounding literal.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @return
+	 */
+	private static List<Part> parse(String template) {
+
+		List<Part> parts = new ArrayList<>();
+		int literalStart = 0;
+		int index = 0;
+
+		while (index < template.length()) {
+
+			int open = template.indexOf('{', index);
+			int close = open == -1 ? -1 : template.indexOf('}', open + 1);
+
+			if (close == -1) {
+				break;
+			}
+
+			Expression expression = Expression.parse(template, open, close);
+
+			if (expression == null) {
+				index = open + 1;
+				continue;
+			}
+
+			if (open > literalStart) {
+				parts.add(new Literal(template.substring(literalStart, open)));
+			}
+
+			parts.add(expression);
+			literalStart = index = close + 1;
+		}
+
+		if (literalStart < template.length()) {
+			parts.add(new Literal(template.substring(literalStart)));
+		}
+
+		return Collections.unmodifiableList(parts);
+	}
+
+	/**
+	 * Appends the given value to the given {@link StringBuilder}, percent-encoding all characters that are not
+	 * unreserved, or, if reserved characters are allowed, reserved or part of an already percent-encoded triplet.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param allowReserved whether to keep reserved characters and percent-encoded triplets.
 	 * @param builder must not be {@literal null}.
-	 * @param variable must not be {@literal null}.
-	 * @param value can be {@literal null}.
 	 */
-	private static void appendToBuilder(UriComponentsBuilder builder, TemplateVariable variable, Object value) {
+	private static void encode(String value, boolean allowReserved, StringBuilder builder) {
+
+		int length = value.length();
+
+		for (int i = 0; i < length; i++) {
 
-		if (value == null) {
+			char c = value.charAt(i);
 
-			if (variable.isRequired()) {
-				throw new IllegalArgumentException(
-						String.format("Template variable %s is required but no value was given!", variable.getName()));
+			if (c < 128 && (UNRESERVED[c] || allowReserved && RESERVED[c])) {
+				builder.append(c);
+				continue;
 			}
 
-			return;
+			if (c == '%' && allowReserved && i + 2 < length && isHex(value.charAt(i + 1)) && isHex(value.charAt(i + 2))) {
+				builder.append(value, i, i + 3);
+				i += 2;
+				continue;
+			}
+
+			int codePoint = value.codePointAt(i);
+			i += Character.charCount(codePoint) - 1;
+
+			for (byte b : new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8)) {
+				builder.append('%') //
+						.append(Character.toUpperCase(Character.forDigit((b >> 4) & 0xF, 16))) //
+						.append(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));
+			}
 		}
+	}
 
-		switch (variable.getType()) {
-			case REQUEST_PARAM:
-			case REQUEST_PARAM_CONTINUED:
-				builder.queryParam(variable.getName(), value);
-				break;
-			case PATH_VARIABLE:
-			case SEGMENT:
-				builder.pathSegment(value.toString());
-				break;
-			case FRAGMENT:
-				builder.fragment(value.toString());
-				break;
+	private static boolean isHex(char c) {
+		return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+	}
+
+	/**
+	 * A compiled part of a {@link UriTemplate}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private interface Part extends Serializable {
+
+		/**
+		 * Appends the expanded part to the given {@link StringBuilder}.
+		 *
+		 * @param builder must not be {@literal null}.
+		 * @param values must not be {@literal null}.
+		 * @param query whether the URI expanded so far already contains a query.
+		 * @return whether the URI contains a query after the part has been expanded.
+		 */
+		boolean expand(StringBuilder builder, Function<String, ? extends Object> values, boolean query);
+
+		/**
+		 * Appends the template representation of the part to the given {@link StringBuilder}.
+		 *
+		 * @param builder must not be {@literal null}.
+		 * @param query whether the template rendered so far already contains a query.
+		 * @return whether the template contains a query after the part has been rendered.
+		 */
+		boolean render(StringBuilder builder, boolean query);
+	}
+
+	/**
+	 * Literal text of a template. It is encoded on creation so that expansion only has to copy it.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Literal implements Part {
+
+		private static final long serialVersionUID = 6353385451547493474L;
+
+		private final String value;
+		private final String encoded;
+		private final boolean query;
+
+		Literal(String value) {
+
+			StringBuilder builder = new StringBuilder(value.length());
+			encode(value, true, builder);
+
+			int fragmentIndex = value.indexOf('#');
+			int queryIndex = value.indexOf('?');
+
+			this.value = value;
+			this.encoded = builder.toString();
+			this.query = queryIndex != -1 && (fragmentIndex == -1 || queryIndex < fragmentIndex);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.UriTemplate.Part#expand(java.lang.StringBuilder, java.util.function.Function, boolean)
+		 */
+		@Override
+		public boolean expand(StringBuilder builder, Function<String, ? extends Object> values, boolean query) {
+
+			builder.append(encoded);
+
+			return query || this.query;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.UriTemplate.Part#render(java.lang.StringBuilder, boolean)
+		 */
+		@Override
+		public boolean render(StringBuilder builder, boolean query) {
+
+			builder.append(value);
+
+			return query || this.query;
+		}
+	}
+
+	/**
+	 * An RFC 6570 expression, i.e. an {@link Operator} applied to a list of {@link VariableSpec}s.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Expression implements Part {
+
+		private static final long serialVersionUID = -4309263476510186447L;
+
+		private final int start;
+		private final Operator operator;
+		private final String source;
+		private final VariableSpec[] specs;
+
+		private Expression(int start, Operator operator, String source, VariableSpec[] specs) {
+
+			this.start = start;
+			this.operator = operator;
+			this.source = source;
+			this.specs = specs;
+		}
+
+		/**
+		 * Parses the expression enclosed by the braces at the given indexes of the given template.
+		 *
+		 * @param template must not be {@literal null}.
+		 * @param open the index of the opening brace.
+		 * @param close the index of the closing brace.
+		 * @return the {@link Expression} or {@literal null} if the braces don't enclose a valid expression.
+		 */
+		static Expression parse(String template, int open, int close) {
+
+			if (close == open + 1) {
+				return null;
+			}
+
+			Operator operator = Operator.from(template.charAt(open + 1));
+			int start = operator == Operator.SIMPLE ? open + 1 : open + 2;
+
+			if (start >= close) {
+				return null;
+			}
+
+			String source = template.substring(start, close);
+			String[] varspecs = StringUtils.delimitedListToStringArray(source, ",");
+			VariableSpec[] specs = new VariableSpec[varspecs.length];
+
+			for (int i = 0; i < varspecs.length; i++) {
+
+				VariableSpec spec = VariableSpec.parse(varspecs[i], operator);
+
+				if (spec == null) {
+					return null;
+				}
+
+				specs[i] = spec;
+			}
+
+			return new Expression(open, operator, source, specs);
+		}
+
+		/**
+		 * Combines the given {@link Expression} following the current one into a single one, if both are query
+		 * expressions.
+		 *
+		 * @param next must not be {@literal null}.
+		 * @return the combined {@link Expression} or {@literal null} if the expressions can't be combined.
+		 */
+		Expression combine(Expression next) {
+
+			if (!operator.isQuery() || !next.operator.isQuery()) {
+				return null;
+			}
+
+			VariableSpec[] combined = Arrays.copyOf(specs, specs.length + next.specs.length);
+			System.arraycopy(next.specs, 0, combined, specs.length, next.specs.length);
+
+			return new Expression(start, operator, source.concat(",").concat(next.source), combined);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.UriTemplate.Part#expand(java.lang.StringBuilder, java.util.function.Function, boolean)
+		 */
+		@Override
+		public boolean expand(StringBuilder builder, Function<String, ? extends Object> values, boolean query) {
+
+			boolean first = true;
+
+			for (VariableSpec spec : specs) {
+
+				Object value = unwrap(values.apply(spec.name));
+
+				if (value == null) {
+
+					if (spec.variable.isRequired()) {
+						throw new IllegalArgumentException(
+								String.format("Template variable %s is required but no value was given!", spec.name));
+					}
+
+					continue;
+				}
+
+				if (first) {
+					builder.append(operator.isQuery() && query ? "&" : operator.first);
+					first = false;
+				} else {
+					builder.append(operator.separator);
+				}
+
+				if (value instanceof String) {
+					expandString(builder, spec, (String) value);
+				} else if (value instanceof Map) {
+					expandMap(builder, spec, (Map<?, ?>) value);
+				} else {
+					expandList(builder, spec, (Collection<?>) value);
+				}
+			}
+
+			return query || !first && operator.isQuery();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.UriTemplate.Part#render(java.lang.StringBuilder, boolean)
+		 */
+		@Override
+		public boolean render(StringBuilder builder, boolean query) {
+
+			builder.append('{') //
+					.append(operator.isQuery() && query ? "&" : operator.key) //
+					.append(source) //
+					.append('}');
+
+			return query || operator.isQuery();
+		}
+
+		private void expandString(StringBuilder builder, VariableSpec spec, String value) {
+
+			if (operator.named) {
+
+				builder.append(spec.name);
+
+				if (value.isEmpty()) {
+					builder.append(operator.ifEmpty);
+					return;
+				}
+
+				builder.append('=');
+			}
+
+			if (spec.prefix > 0 && value.codePointCount(0, value.length()) > spec.prefix) {
+				value = value.substring(0, value.offsetByCodePoints(0, spec.prefix));
+			}
+
+			encode(value, operator.allowReserved, builder);
+		}
+
+		private void expandList(StringBuilder builder, VariableSpec spec, Collection<?> values) {
+
+			if (!spec.explode && operator.named) {
+				builder.append(spec.name).append('=');
+			}
+
+			boolean first = true;
+
+			for (Object element : values) {
+
+				if (!first) {
+					builder.append(spec.explode ? operator.separator : ",");
+				}
+
+				first = false;
+				String value = String.valueOf(element);
+
+				if (spec.explode && operator.named) {
+
+					builder.append(spec.name);
+
+					if (value.isEmpty()) {
+						builder.append(operator.ifEmpty);
+						continue;
+					}
+
+					builder.append('=');
+				}
+
+				encode(value, operator.allowReserved, builder);
+			}
+		}
+
+		private void expandMap(StringBuilder builder, VariableSpec spec, Map<?, ?> values) {
+
+			if (!spec.explode && operator.named) {
+				builder.append(spec.name).append('=');
+			}
+
+			boolean first = true;
+
+			for (Entry<?, ?> entry : values.entrySet()) {
+
+				if (!first) {
+					builder.append(spec.explode ? operator.separator : ",");
+				}
+
+				first = false;
+				String value = String.valueOf(entry.getValue());
+
+				encode(String.valueOf(entry.getKey()), operator.allowReserved, builder);
+
+				if (spec.explode && value.isEmpty()) {
+					builder.append(operator.ifEmpty);
+					continue;
+				}
+
+				builder.append(spec.explode ? '=' : ',');
+				encode(value, operator.allowReserved, builder);
+			}
+		}
+
+		/**
+		 * Turns the given value into either a {@link String}, a non-empty {@link Collection} or a non-empty {@link Map}.
+		 * Returns {@literal null} for values considered undefined by RFC 6570.
+		 *
+		 * @param value can be {@literal null}.
+		 * @return
+		 */
+		private static Object unwrap(Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			if (value instanceof Map) {
+				return ((Map<?, ?>) value).isEmpty() ? null : value;
+			}
+
+			if (value.getClass().isArray()) {
+				value = Arrays.asList(ObjectUtils.toObjectArray(value));
+			}
+
+			if (value instanceof Collection) {
+				return ((Collection<?>) value).isEmpty() ? null : value;
+			}
+
+			return value.toString();
+		}
+	}
+
+	/**
+	 * A single variable within an {@link Expression} including its modifiers.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class VariableSpec implements Serializable {
+
+		private static final long serialVersionUID = 2404735829614549325L;
+
+		private final String name;
+		private final int prefix;
+		private final boolean explode;
+		private final TemplateVariable variable;
+
+		private VariableSpec(String name, int prefix, boolean explode, TemplateVariable variable) {
+
+			this.name = name;
+			this.prefix = prefix;
+			this.explode = explode;
+			this.variable = variable;
+		}
+
+		/**
+		 * Parses the given variable specification.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @param operator must not be {@literal null}.
+		 * @return the {@link VariableSpec} or {@literal null} if the given source is not a valid variable specification.
+		 */
+		static VariableSpec parse(String source, Operator operator) {
+
+			String name = source;
+			int prefix = 0;
+			boolean explode = false;
+
+			int colon = source.indexOf(':');
+
+			if (colon != -1) {
+
+				String length = source.substring(colon + 1);
+
+				if (length.isEmpty() || length.length() > 4 || length.charAt(0) == '0'
+						|| !length.chars().allMatch(Character::isDigit)) {
+					return null;
+				}
+
+				name = source.substring(0, colon);
+				prefix = Integer.parseInt(length);
+
+			} else if (source.endsWith("*")) {
+
+				name = source.substring(0, source.length() - 1);
+				explode = true;
+			}
+
+			return isValidName(name) //
+					? new VariableSpec(name, prefix, explode, new TemplateVariable(name, operator.type)) //
+					: null;
+		}
+
+		private static boolean isValidName(String name) {
+
+			int length = name.length();
+
+			if (length == 0 || name.charAt(0) == '.' || name.charAt(length - 1) == '.') {
+				return false;
+			}
+
+			for (int i = 0; i < length; i++) {
+
+				char c = name.charAt(i);
+
+				if (c == '%') {
+
+					if (i + 2 >= length || !isHex(name.charAt(i + 1)) || !isHex(name.charAt(i + 2))) {
+						return false;
+					}
+
+					i += 2;
+					continue;
+				}
+
+				if (c == '.' && name.charAt(i - 1) == '.') {
+					return false;
+				}
+
+				if (c >= 128 || !(Character.isLetterOrDigit(c) || c == '_' || c == '.')) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+
+	/**
+	 * The RFC 6570 expression operators and their expansion rules.
+	 *
+	 * @author Oliver Gierke
+	 * @see https://tools.ietf.org/html/rfc6570#appendix-A
+	 */
+	private enum Operator {
+
+		SIMPLE("", "", ",", false, "", false, VariableType.PATH_VARIABLE), //
+		RESERVED("+", "", ",", false, "", true, VariableType.RESERVED_STRING), //
+		FRAGMENT("#", "#", ",", false, "", true, VariableType.FRAGMENT), //
+		LABEL(".", ".", ".", false, "", false, VariableType.DOT), //
+		PATH_SEGMENT("/", "/", "/", false, "", false, VariableType.SEGMENT), //
+		PATH_PARAMETER(";", ";", ";", true, "", false, VariableType.PATH_STYLE_PARAMETER), //
+		QUERY("?", "?", "&", true, "=", false, VariableType.REQUEST_PARAM), //
+		QUERY_CONTINUATION("&", "&", "&", true, "=", false, VariableType.REQUEST_PARAM_CONTINUED);
+
+		private final String key, first, separator, ifEmpty;
+		private final boolean named, allowReserved;
+		private final VariableType type;
+
+		private Operator(String key, String first, String separator, boolean named, String ifEmpty,
+				boolean allowReserved, VariableType type) {
+
+			this.key = key;
+			this.first = first;
+			this.separator = separator;
+			this.named = named;
+			this.ifEmpty = ifEmpty;
+			this.allowReserved = allowReserved;
+			this.type = type;
+		}
+
+		/**
+		 * Returns the {@link Operator} for the given first character of an expression.
+		 *
+		 * @param c
+		 * @return
+		 */
+		static Operator from(char c) {
+
+			for (Operator operator : values()) {
+				if (operator != SIMPLE && operator.key.charAt(0) == c) {
+					return operator;
+				}
+			}
+
+			return SIMPLE;
+		}
+
+		boolean isQuery() {
+			return this == QUERY || this == QUERY_CONTINUATION;
 		}
 	}
 }
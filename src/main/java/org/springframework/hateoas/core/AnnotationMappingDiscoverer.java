@@ -22,6 +22,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -127,6 +128,11 @@ public class AnnotationMappingDiscoverer implements MappingDiscoverer {
 		Assert.notNull(method, "Method must not be null!");
 
 		Annotation mergedAnnotation = findMergedAnnotation(method, annotationType);
+
+		if (mergedAnnotation == null) {
+			return Collections.emptyList();
+		}
+
 		Object value = getValue(mergedAnnotation, "method");
 
 		RequestMethod[] requestMethods = (RequestMethod[]) value;
@@ -15,12 +15,13 @@
  */
 package org.springframework.hateoas.core;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.hateoas.RelProvider;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * @author Oliver Gierke
@@ -29,7 +30,7 @@ import org.springframework.hateoas.RelProvider;
 @Order(100)
 public class AnnotationRelProvider implements RelProvider {
 
-	private final Map<Class<?>, Relation> annotationCache = new HashMap<>();
+	private final Map<Class<?>, Optional<Relation>> annotationCache = new ConcurrentReferenceHashMap<>();
 
 	/*
 	 * (non-Javadoc)
@@ -73,6 +74,8 @@ public class AnnotationRelProvider implements RelProvider {
 	}
 
 	private Relation lookupAnnotation(Class<?> type) {
-		return annotationCache.computeIfAbsent(type, key -> AnnotationUtils.getAnnotation(key, Relation.class));
+		return annotationCache
+				.computeIfAbsent(type, key -> Optional.ofNullable(AnnotationUtils.getAnnotation(key, Relation.class)))
+				.orElse(null);
 	}
 }
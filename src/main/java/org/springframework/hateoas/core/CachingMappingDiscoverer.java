@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * {@link MappingDiscoverer} that caches the results of a delegate {@link MappingDiscoverer}. For each combination of
+ * type and method, the mapping, the {@link UriTemplate} compiled from it and the request methods are resolved once. The
+ * caches only hold soft references so that they don't prevent classes from being unloaded.
+ *
+ * @author Oliver Gierke
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachingMappingDiscoverer implements MappingDiscoverer {
+
+	private final MappingDiscoverer delegate;
+	private final Map<Class<?>, Optional<String>> typeMappings = new ConcurrentReferenceHashMap<>();
+	private final Map<MethodKey, MethodMapping> methodMappings = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Creates a new {@link CachingMappingDiscoverer} for the given delegate {@link MappingDiscoverer}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @return
+	 */
+	public static CachingMappingDiscoverer of(MappingDiscoverer delegate) {
+
+		Assert.notNull(delegate, "Delegate MappingDiscoverer must not be null!");
+
+		return new CachingMappingDiscoverer(delegate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class)
+	 */
+	@Override
+	public String getMapping(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return typeMappings.computeIfAbsent(type, it -> Optional.ofNullable(delegate.getMapping(it))).orElse(null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.reflect.Method)
+	 */
+	@Override
+	public String getMapping(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return getMapping(method.getDeclaringClass(), method);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public String getMapping(Class<?> type, Method method) {
+		return getMethodMapping(type, method).getMapping();
+	}
+
+	/**
+	 * Returns the mapping for the given {@link Method} invoked on the given type as {@link UriTemplate}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return the {@link UriTemplate} or {@literal null} if neither a type-level nor a method-level mapping is present.
+	 * @see #getMapping(Class, Method)
+	 */
+	public UriTemplate getMappingAsUriTemplate(Class<?> type, Method method) {
+		return getMethodMapping(type, method).getTemplate();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getRequestMethod(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public Collection<HttpMethod> getRequestMethod(Class<?> type, Method method) {
+		return getMethodMapping(type, method).getRequestMethods();
+	}
+
+	private MethodMapping getMethodMapping(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		return methodMappings.computeIfAbsent(new MethodKey(type, method), this::createMethodMapping);
+	}
+
+	private MethodMapping createMethodMapping(MethodKey key) {
+
+		String mapping = delegate.getMapping(key.getType(), key.getMethod());
+		Collection<HttpMethod> requestMethods = delegate.getRequestMethod(key.getType(), key.getMethod());
+
+		return new MethodMapping(mapping, //
+				mapping == null ? null : new UriTemplate(mapping), //
+				Collections.unmodifiableList(new ArrayList<HttpMethod>(requestMethods)));
+	}
+
+	@Value
+	private static class MethodKey {
+
+		Class<?> type;
+		Method method;
+	}
+
+	@Value
+	private static class MethodMapping {
+
+		String mapping;
+		UriTemplate template;
+		Collection<HttpMethod> requestMethods;
+	}
+}
@@ -15,7 +15,10 @@
  */
 package org.springframework.hateoas.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.core.annotation.AnnotationUtils;
@@ -68,23 +71,25 @@ public class ControllerEntityLinks extends AbstractEntityLinks {
 		Assert.notNull(controllerTypes, "ControllerTypes must not be null!");
 		Assert.notNull(linkBuilderFactory, "LinkBuilderFactory must not be null!");
 
-		this.linkBuilderFactory = linkBuilderFactory;
-		this.entityToController = new HashMap<>();
+		Map<Class<?>, Class<?>> entityToController = new HashMap<>();
+
+		controllerTypes.forEach(it -> entityToController.put(getManagedEntity(it), it));
 
-		controllerTypes.forEach(this::registerControllerClass);
+		this.linkBuilderFactory = linkBuilderFactory;
+		this.entityToController = Collections.unmodifiableMap(entityToController);
 	}
 
-	private void registerControllerClass(Class<?> controllerType) {
+	private static Class<?> getManagedEntity(Class<?> controllerType) {
 
 		Assert.notNull(controllerType, "Controller type must nor be null!");
 		ExposesResourceFor annotation = AnnotationUtils.findAnnotation(controllerType, ExposesResourceFor.class);
 
-		if (annotation != null) {
-			entityToController.put(annotation.value(), controllerType);
-		} else {
+		if (annotation == null) {
 			throw new IllegalArgumentException(String.format("Controller %s must be annotated with @ExposesResourceFor!",
 					controllerType.getName()));
 		}
+
+		return annotation.value();
 	}
 
 	/* 
@@ -134,6 +139,25 @@ public class ControllerEntityLinks extends AbstractEntityLinks {
 		return linkFor(entity).slash(id).withSelfRel();
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.EntityLinks#linksToSingleResources(java.lang.Class, java.lang.Iterable)
+	 */
+	@Override
+	public List<Link> linksToSingleResources(Class<?> entity, Iterable<?> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		LinkBuilder builder = linkFor(entity);
+		List<Link> links = new ArrayList<Link>();
+
+		for (Object id : ids) {
+			links.add(builder.slash(id).withSelfRel());
+		}
+
+		return links;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
@@ -15,11 +15,16 @@
  */
 package org.springframework.hateoas.core;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link EntityLinks} implementation that delegates to the {@link EntityLinks} instances registered in the
@@ -30,6 +35,7 @@ import org.springframework.util.Assert;
 public class DelegatingEntityLinks extends AbstractEntityLinks {
 
 	private final PluginRegistry<EntityLinks, Class<?>> delegates;
+	private final Map<Class<?>, Optional<EntityLinks>> selectedDelegates = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link DelegatingEntityLinks} using the given {@link PluginRegistry}.
@@ -78,13 +84,22 @@ public class DelegatingEntityLinks extends AbstractEntityLinks {
 		return getPluginFor(type).linkToSingleResource(type, id);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.EntityLinks#linksToSingleResources(java.lang.Class, java.lang.Iterable)
+	 */
+	@Override
+	public List<Link> linksToSingleResources(Class<?> type, Iterable<?> ids) {
+		return getPluginFor(type).linksToSingleResources(type, ids);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
 	 */
 	@Override
 	public boolean supports(Class<?> delimiter) {
-		return delegates.hasPluginFor(delimiter);
+		return lookupPluginFor(delimiter).isPresent();
 	}
 
 	/**
@@ -96,9 +111,13 @@ public class DelegatingEntityLinks extends AbstractEntityLinks {
 	 */
 	private EntityLinks getPluginFor(Class<?> type) {
 
-		return delegates.getPluginFor(type) //
+		return lookupPluginFor(type) //
 				.orElseThrow(() -> new IllegalArgumentException(
 						String.format("Cannot determine link for %s! No EntityLinks instance found supporting the domain type!",
 								type.getName())));
 	}
+
+	private Optional<EntityLinks> lookupPluginFor(Class<?> type) {
+		return selectedDelegates.computeIfAbsent(type, delegates::getPluginFor);
+	}
 }
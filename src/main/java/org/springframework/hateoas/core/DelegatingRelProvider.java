@@ -15,16 +15,26 @@
  */
 package org.springframework.hateoas.core;
 
+import java.util.Map;
+import java.util.Optional;
+
 import org.springframework.hateoas.RelProvider;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
+ * {@link RelProvider} that delegates to the {@link RelProvider}s registered in the given {@link PluginRegistry}. The
+ * provider selected for a type as well as the relations it resolves are cached per type.
+ * 
  * @author Oliver Gierke
  */
 public class DelegatingRelProvider implements RelProvider {
 
 	private final PluginRegistry<RelProvider, Class<?>> providers;
+	private final Map<Class<?>, RelProvider> selectedProviders = new ConcurrentReferenceHashMap<>();
+	private final Map<Class<?>, Optional<String>> itemResourceRels = new ConcurrentReferenceHashMap<>();
+	private final Map<Class<?>, Optional<String>> collectionResourceRels = new ConcurrentReferenceHashMap<>();
 
 	public DelegatingRelProvider(PluginRegistry<RelProvider, Class<?>> providers) {
 
@@ -38,7 +48,9 @@ public class DelegatingRelProvider implements RelProvider {
 	 */
 	@Override
 	public String getItemResourceRelFor(Class<?> type) {
-		return providers.getRequiredPluginFor(type).getItemResourceRelFor(type);
+		return itemResourceRels
+				.computeIfAbsent(type, it -> Optional.ofNullable(getProviderFor(it).getItemResourceRelFor(it))) //
+				.orElse(null);
 	}
 
 	/*
@@ -47,7 +59,9 @@ public class DelegatingRelProvider implements RelProvider {
 	 */
 	@Override
 	public String getCollectionResourceRelFor(java.lang.Class<?> type) {
-		return providers.getRequiredPluginFor(type).getCollectionResourceRelFor(type);
+		return collectionResourceRels
+				.computeIfAbsent(type, it -> Optional.ofNullable(getProviderFor(it).getCollectionResourceRelFor(it))) //
+				.orElse(null);
 	}
 
 	/*
@@ -58,4 +72,8 @@ public class DelegatingRelProvider implements RelProvider {
 	public boolean supports(java.lang.Class<?> delimiter) {
 		return providers.hasPluginFor(delimiter);
 	}
+
+	private RelProvider getProviderFor(Class<?> type) {
+		return selectedProviders.computeIfAbsent(type, providers::getRequiredPluginFor);
+	}
 }
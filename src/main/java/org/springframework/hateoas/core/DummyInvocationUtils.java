@@ -20,12 +20,10 @@ import lombok.Value;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
-import org.aopalliance.intercept.MethodInterceptor;
-import org.springframework.aop.framework.ProxyFactory;
-import org.springframework.aop.target.EmptyTargetSource;
 import org.springframework.cglib.proxy.Callback;
 import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.Factory;
@@ -44,9 +42,17 @@ import org.springframework.util.ReflectionUtils;
 public class DummyInvocationUtils {
 
 	private static final ObjenesisStd OBJENESIS = new ObjenesisStd();
+	private static final Object[] NO_PARAMETERS = new Object[0];
 	private static final Map<Class<?>, Class<?>> CLASS_CACHE = new ConcurrentReferenceHashMap<>(16,
 			ReferenceType.WEAK);
 
+	/**
+	 * The recycled proxies per thread, {@literal null} if recycling is disabled. A new {@link ThreadLocal} is created
+	 * whenever recycling gets enabled, so that disabling it drops the proxies cached on all threads, not only the ones
+	 * of the current thread.
+	 */
+	private static volatile ThreadLocal<Map<Class<?>, Object>> recycledProxies = null;
+
 	public interface LastInvocationAware {
 
 		Iterator<Object> getObjectParameters();
@@ -61,14 +67,16 @@ public class DummyInvocationUtils {
 	 * @author Oliver Gierke
 	 */
 	private static class InvocationRecordingMethodInterceptor
-			implements MethodInterceptor, LastInvocationAware, org.springframework.cglib.proxy.MethodInterceptor {
+			implements LastInvocationAware, org.springframework.cglib.proxy.MethodInterceptor {
 
 		private static final Method GET_INVOCATIONS;
 		private static final Method GET_OBJECT_PARAMETERS;
 
 		private final Class<?> targetType;
-		private final Object[] objectParameters;
+		private final Map<Class<?>, Object> returnValueProxies;
+		private Object[] objectParameters;
 		private MethodInvocation invocation;
+		private boolean inUse;
 
 		static {
 			GET_INVOCATIONS = ReflectionUtils.findMethod(LastInvocationAware.class, "getLastInvocation");
@@ -80,15 +88,18 @@ public class DummyInvocationUtils {
 		 * needed to populate the class level mapping.
 		 * 
 		 * @param targetType must not be {@literal null}.
+		 * @param recyclable whether the interceptor and the proxies it creates will be reused once released.
 		 * @param parameters must not be {@literal null}.
 		 */
-		InvocationRecordingMethodInterceptor(Class<?> targetType, Object... parameters) {
+		InvocationRecordingMethodInterceptor(Class<?> targetType, boolean recyclable, Object... parameters) {
 
 			Assert.notNull(targetType, "Target type must not be null!");
 			Assert.notNull(parameters, "Parameters must not be null!");
 
 			this.targetType = targetType;
+			this.returnValueProxies = recyclable ? new HashMap<>() : null;
 			this.objectParameters = parameters.clone();
+			this.inUse = true;
 		}
 
 		/*
@@ -109,16 +120,7 @@ public class DummyInvocationUtils {
 			this.invocation = new SimpleMethodInvocation(targetType, method, args);
 
 			Class<?> returnType = method.getReturnType();
-			return returnType.cast(getProxyWithInterceptor(returnType, this, obj.getClass().getClassLoader()));
-		}
-
-		/* 
-		 * (non-Javadoc)
-		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
-		 */
-		@Override
-		public Object invoke(org.aopalliance.intercept.MethodInvocation invocation) throws Throwable {
-			return intercept(invocation.getThis(), invocation.getMethod(), invocation.getArguments(), null);
+			return returnType.cast(getReturnValueProxy(returnType, obj.getClass().getClassLoader()));
 		}
 
 		/*
@@ -138,11 +140,84 @@ public class DummyInvocationUtils {
 		public Iterator<Object> getObjectParameters() {
 			return Arrays.asList(objectParameters).iterator();
 		}
+
+		/**
+		 * Returns whether the interceptor is recyclable and can currently be acquired, i.e. it has been released before.
+		 * 
+		 * @return
+		 */
+		boolean isAvailable() {
+			return returnValueProxies != null && !inUse;
+		}
+
+		/**
+		 * Marks the interceptor as in use again and resets it to carry the given parameters forward.
+		 * 
+		 * @param parameters must not be {@literal null}.
+		 */
+		void acquire(Object... parameters) {
+
+			Assert.notNull(parameters, "Parameters must not be null!");
+
+			this.objectParameters = parameters.length == 0 ? NO_PARAMETERS : parameters.clone();
+			this.invocation = null;
+			this.inUse = true;
+		}
+
+		/**
+		 * Releases the interceptor so that it can be reused for subsequent {@link DummyInvocationUtils#methodOn(Class,
+		 * Object...)} calls. A no-op for non-recyclable interceptors.
+		 */
+		void release() {
+
+			if (returnValueProxies == null) {
+				return;
+			}
+
+			this.objectParameters = NO_PARAMETERS;
+			this.invocation = null;
+			this.inUse = false;
+		}
+
+		private Object getReturnValueProxy(Class<?> returnType, ClassLoader classLoader) {
+
+			if (returnValueProxies == null) {
+				return getProxyWithInterceptor(returnType, this, classLoader);
+			}
+
+			return returnValueProxies.computeIfAbsent(returnType,
+					it -> getProxyWithInterceptor(it, this, classLoader));
+		}
+	}
+
+	/**
+	 * Configures whether the proxies created by {@link #methodOn(Class, Object...)} shall be recycled. If enabled, a
+	 * proxy (and the proxies created for the return values of the methods invoked on it) is kept per thread and target
+	 * type and reused once the {@link LastInvocationAware} handed to
+	 * {@link org.springframework.hateoas.MethodLinkBuilderFactory#linkTo(Object)} has been consumed. Only enable this if
+	 * the proxies returned by {@link #methodOn(Class, Object...)} are not held on to beyond the creation of the link.
+	 * Defaults to {@literal false}. Disabling recycling drops the proxies kept for all threads.
+	 * 
+	 * @param recycle whether to recycle the invocation recording proxies.
+	 */
+	public static synchronized void setRecycleProxies(boolean recycle) {
+
+		ThreadLocal<Map<Class<?>, Object>> current = recycledProxies;
+
+		if (recycle && current == null) {
+			recycledProxies = ThreadLocal.withInitial(HashMap::new);
+		}
+
+		if (!recycle && current != null) {
+
+			current.remove();
+			recycledProxies = null;
+		}
 	}
 
 	/**
-	 * Returns a proxy of the given type, backed by an {@link EmptyTargetSource} to simply drop method invocations but
-	 * equips it with an {@link InvocationRecordingMethodInterceptor}. The interceptor records the last invocation and
+	 * Returns a proxy of the given type that simply drops method invocations but equips it with an
+	 * {@link InvocationRecordingMethodInterceptor}. The interceptor records the last invocation and
 	 * returns a proxy of the return type that also implements {@link LastInvocationAware} so that the last method
 	 * invocation can be inspected. Parameters passed to the subsequent method invocation are generally neglected except
 	 * the ones that might be mapped into the URI translation eventually, e.g. {@linke PathVariable} in the case of Spring
@@ -151,28 +226,76 @@ public class DummyInvocationUtils {
 	 * @param type must not be {@literal null}.
 	 * @param parameters parameters to extend template variables in the type level mapping.
 	 * @return
+	 * @see #setRecycleProxies(boolean)
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> T methodOn(Class<T> type, Object... parameters) {
 
 		Assert.notNull(type, "Given type must not be null!");
 
-		InvocationRecordingMethodInterceptor interceptor = new InvocationRecordingMethodInterceptor(type, parameters);
-		return getProxyWithInterceptor(type, interceptor, type.getClassLoader());
+		ThreadLocal<Map<Class<?>, Object>> recycledProxies = DummyInvocationUtils.recycledProxies;
+
+		if (recycledProxies == null) {
+
+			InvocationRecordingMethodInterceptor interceptor = new InvocationRecordingMethodInterceptor(type, false,
+					parameters);
+			return getProxyWithInterceptor(type, interceptor, type.getClassLoader());
+		}
+
+		Map<Class<?>, Object> proxies = recycledProxies.get();
+		Object proxy = proxies.get(type);
+
+		if (proxy != null) {
+
+			InvocationRecordingMethodInterceptor interceptor = getInterceptor(proxy);
+
+			if (interceptor.isAvailable()) {
+				interceptor.acquire(parameters);
+				return (T) proxy;
+			}
+
+			// Previously handed out proxy not consumed yet, fall back to a throw-away one
+
+			return getProxyWithInterceptor(type, new InvocationRecordingMethodInterceptor(type, false, parameters),
+					type.getClassLoader());
+		}
+
+		InvocationRecordingMethodInterceptor interceptor = new InvocationRecordingMethodInterceptor(type, true, parameters);
+		T result = getProxyWithInterceptor(type, interceptor, type.getClassLoader());
+
+		proxies.put(type, result);
+
+		return result;
 	}
 
-	@SuppressWarnings("unchecked")
-	private static <T> T getProxyWithInterceptor(Class<?> type, InvocationRecordingMethodInterceptor interceptor,
-			ClassLoader classLoader) {
+	/**
+	 * Signals that the given invocation value obtained from a proxy created via {@link #methodOn(Class, Object...)} has
+	 * been consumed, so that the proxy can be reused in case recycling is enabled. Callers must not access the given
+	 * value after calling this method.
+	 * 
+	 * @param invocationValue can be {@literal null}.
+	 * @see #setRecycleProxies(boolean)
+	 */
+	public static void release(Object invocationValue) {
 
-		if (type.isInterface()) {
+		if (!(invocationValue instanceof Factory)) {
+			return;
+		}
 
-			ProxyFactory factory = new ProxyFactory(EmptyTargetSource.INSTANCE);
-			factory.addInterface(type);
-			factory.addInterface(LastInvocationAware.class);
-			factory.addAdvice(interceptor);
+		Callback callback = ((Factory) invocationValue).getCallback(0);
 
-			return (T) factory.getProxy();
+		if (callback instanceof InvocationRecordingMethodInterceptor) {
+			((InvocationRecordingMethodInterceptor) callback).release();
 		}
+	}
+
+	private static InvocationRecordingMethodInterceptor getInterceptor(Object proxy) {
+		return (InvocationRecordingMethodInterceptor) ((Factory) proxy).getCallback(0);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T getProxyWithInterceptor(Class<?> type, InvocationRecordingMethodInterceptor interceptor,
+			ClassLoader classLoader) {
 
 		Factory factory = (Factory) OBJENESIS.newInstance(getOrCreateEnhancedClass(type, classLoader));
 		factory.setCallbacks(new Callback[] { interceptor });
@@ -189,7 +312,9 @@ public class DummyInvocationUtils {
 	}
 
 	/**
-	 * Returns the already created proxy class for the given source type or creates a new one.
+	 * Returns the already created proxy class for the given source type or creates a new one. Interfaces are proxied
+	 * with an enhanced subclass of {@link Object} implementing them so that their proxy classes can be cached the same
+	 * way.
 	 * 
 	 * @param type must not be {@literal null}.
 	 * @param classLoader must not be {@literal null}.
@@ -203,8 +328,14 @@ public class DummyInvocationUtils {
 		return CLASS_CACHE.computeIfAbsent(type, key -> {
 
 			Enhancer enhancer = new Enhancer();
-			enhancer.setSuperclass(key);
-			enhancer.setInterfaces(new Class<?>[] { LastInvocationAware.class });
+
+			if (key.isInterface()) {
+				enhancer.setInterfaces(new Class<?>[] { key, LastInvocationAware.class });
+			} else {
+				enhancer.setSuperclass(key);
+				enhancer.setInterfaces(new Class<?>[] { LastInvocationAware.class });
+			}
+
 			enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
 			enhancer.setClassLoader(classLoader);
 
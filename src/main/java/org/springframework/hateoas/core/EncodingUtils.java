@@ -17,10 +17,9 @@ package org.springframework.hateoas.core;
 
 import lombok.experimental.UtilityClass;
 
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 
 import org.springframework.util.Assert;
-import org.springframework.web.util.UriUtils;
 
 /**
  * Utilities for URI encoding.
@@ -32,7 +31,24 @@ import org.springframework.web.util.UriUtils;
 @UtilityClass
 public class EncodingUtils {
 
-	private static final String ENCODING = "UTF-8";
+	private static final boolean[] PATH = new boolean[128];
+	private static final boolean[] QUERY_PARAM = new boolean[128];
+	private static final boolean[] FRAGMENT = new boolean[128];
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	static {
+
+		// Mirrors the allowed characters of HierarchicalUriComponents.Type
+
+		for (char c = 0; c < 128; c++) {
+
+			boolean pchar = isUnreserved(c) || "!$&'()*+,;=".indexOf(c) != -1 || c == ':' || c == '@';
+
+			PATH[c] = pchar || c == '/';
+			FRAGMENT[c] = pchar || c == '/' || c == '?';
+			QUERY_PARAM[c] = c != '=' && c != '&' && FRAGMENT[c];
+		}
+	}
 
 	/**
 	 * Encodes the given path value.
@@ -44,11 +60,7 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Path value must not be null!");
 
-		try {
-			return UriUtils.encodePath(source.toString(), ENCODING);
-		} catch (UnsupportedEncodingException o_O) {
-			throw new IllegalStateException(o_O);
-		}
+		return encode(source.toString(), PATH);
 	}
 
 	/**
@@ -61,11 +73,7 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Request parameter value must not be null!");
 
-		try {
-			return UriUtils.encodeQueryParam(source.toString(), ENCODING);
-		} catch (UnsupportedEncodingException o_O) {
-			throw new IllegalStateException(o_O);
-		}
+		return encode(source.toString(), QUERY_PARAM);
 	}
 
 	/**
@@ -78,10 +86,56 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Fragment value must not be null!");
 
-		try {
-			return UriUtils.encodeFragment(source.toString(), ENCODING);
-		} catch (UnsupportedEncodingException o_O) {
-			throw new IllegalStateException(o_O);
+		return encode(source.toString(), FRAGMENT);
+	}
+
+	/**
+	 * Encodes the given source {@link String} using the given table of allowed ASCII characters. Returns the source
+	 * {@link String} as is if it doesn't contain any character that needs to be encoded. All other characters are
+	 * percent-encoded based on their UTF-8 representation just like {@link org.springframework.web.util.UriUtils} does.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param allowed must not be {@literal null}.
+	 * @return
+	 */
+	private static String encode(String source, boolean[] allowed) {
+
+		int length = source.length();
+		int index = 0;
+
+		while (index < length) {
+
+			char c = source.charAt(index);
+
+			if (c >= 128 || !allowed[c]) {
+				break;
+			}
+
+			index++;
+		}
+
+		if (index == length) {
+			return source;
 		}
+
+		byte[] bytes = source.substring(index).getBytes(StandardCharsets.UTF_8);
+		StringBuilder builder = new StringBuilder(index + bytes.length * 3).append(source, 0, index);
+
+		for (byte b : bytes) {
+
+			int value = b & 0xFF;
+
+			if (value < 128 && allowed[value]) {
+				builder.append((char) value);
+			} else {
+				builder.append('%').append(HEX[value >> 4]).append(HEX[value & 0xF]);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	private static boolean isUnreserved(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || "-._~".indexOf(c) != -1;
 	}
 }
@@ -15,8 +15,11 @@
  */
 package org.springframework.hateoas.core;
 
+import java.util.Map;
+
 import org.atteo.evo.inflector.English;
 import org.springframework.hateoas.RelProvider;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link RelProvider} implementation using the Evo Inflector implementation of an algorithmic approach to English
@@ -27,12 +30,14 @@ import org.springframework.hateoas.RelProvider;
  */
 public class EvoInflectorRelProvider extends DefaultRelProvider {
 
+	private final Map<Class<?>, String> collectionRels = new ConcurrentReferenceHashMap<>();
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.DefaultRelProvider#getCollectionResourceRelFor(java.lang.Class)
 	 */
 	@Override
 	public String getCollectionResourceRelFor(Class<?> type) {
-		return English.plural(getItemResourceRelFor(type));
+		return collectionRels.computeIfAbsent(type, it -> English.plural(getItemResourceRelFor(it)));
 	}
 }
@@ -23,6 +23,7 @@ import lombok.Getter;
 import java.net.URI;
 import java.util.Optional;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -46,7 +47,8 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkBuilder {
 
-	private final UriComponents uriComponents;
+	private UriComponents uriComponents;
+	private String uri;
 
 	private @Getter final List<Affordance> affordances;
 
@@ -68,9 +70,37 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @param uriComponents must not be {@literal null}.
 	 */
 	public LinkBuilderSupport(UriComponents uriComponents) {
+		this(uriComponents, new ArrayList<Affordance>());
+	}
+
+	/**
+	 * Creates a new {@link LinkBuilderSupport} using the given {@link UriComponents} and {@link Affordance}s. The given
+	 * {@link List} is used as is, so that implementations can hand in a list that calculates its elements lazily.
+	 *
+	 * @param uriComponents must not be {@literal null}.
+	 * @param affordances must not be {@literal null}.
+	 */
+	protected LinkBuilderSupport(UriComponents uriComponents, List<Affordance> affordances) {
 
 		Assert.notNull(uriComponents, "UriComponents must not be null!");
+		Assert.notNull(affordances, "Affordances must not be null!");
+
 		this.uriComponents = uriComponents;
+		this.affordances = affordances;
+	}
+
+	/**
+	 * Creates a new {@link LinkBuilderSupport} using the given, already encoded URI. The {@link UriComponents} are only
+	 * parsed from it if they're actually needed.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @see #createNewInstance(String)
+	 */
+	protected LinkBuilderSupport(String uri) {
+
+		Assert.notNull(uri, "URI must not be null!");
+
+		this.uri = uri;
 		this.affordances = new ArrayList<Affordance>();
 	}
 
@@ -102,13 +132,23 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 
 		path = path.startsWith("/") ? path : "/".concat(path);
 
+		// Plain paths don't need to be parsed into UriComponents
+		if (path.indexOf('?') == -1 && path.indexOf('#') == -1 && !path.startsWith("//")) {
+			return append(getPathSegments(path), false, null);
+		}
+
 		return slash(UriComponentsBuilder.fromUriString(path).build(), false);
 	}
 
 	protected T slash(UriComponents components, boolean encoded) {
 
-		String uriString = uriComponents.toUriString();
-		UriComponentsBuilder builder = uriString.isEmpty() ? fromUri(uriComponents.toUri()) : fromUriString(uriString);
+		if (components.getQuery() == null) {
+			return append(components.getPathSegments(), encoded, components.getFragment());
+		}
+
+		String uriString = getUriString();
+		UriComponentsBuilder builder = uriString.isEmpty() ? fromUri(getUriComponents().toUri())
+				: fromUriString(uriString);
 
 		for (String pathSegment : components.getPathSegments()) {
 			builder.pathSegment(encoded ? pathSegment : encodePath(pathSegment));
@@ -123,6 +163,73 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 		return createNewInstance(builder.query(components.getQuery()));
 	}
 
+	/**
+	 * Appends the given path segments and fragment to the current URI by plain {@link String} concatenation, i.e. without
+	 * parsing the current URI into a {@link UriComponentsBuilder} and building it again.
+	 * 
+	 * @param segments must not be {@literal null}.
+	 * @param encoded whether the given segments and fragment are already encoded.
+	 * @param fragment can be {@literal null}.
+	 * @return
+	 */
+	private T append(List<String> segments, boolean encoded, String fragment) {
+
+		String current = getUriString();
+		int suffixIndex = getSuffixIndex(current);
+		StringBuilder builder = new StringBuilder(current.length() + 32).append(current, 0, suffixIndex);
+
+		if (!segments.isEmpty()) {
+
+			int length = builder.length();
+
+			// Mimic UriComponentsBuilder dropping a trailing slash of the existing path
+			if (length > 0 && builder.charAt(length - 1) == '/' && (length == 1 || builder.charAt(length - 2) != '/')) {
+				builder.setLength(length - 1);
+			}
+
+			for (String segment : segments) {
+				builder.append('/').append(encoded ? segment : encodePath(segment));
+			}
+		}
+
+		if (StringUtils.hasText(fragment)) {
+
+			int fragmentIndex = current.indexOf('#', suffixIndex);
+
+			builder.append(current, suffixIndex, fragmentIndex == -1 ? current.length() : fragmentIndex) //
+					.append('#').append(encoded ? fragment : encodeFragment(fragment));
+
+		} else {
+			builder.append(current, suffixIndex, current.length());
+		}
+
+		return createNewInstance(builder.toString());
+	}
+
+	/**
+	 * Returns the index of the query or fragment part of the given URI or its length if it has neither.
+	 * 
+	 * @param uri must not be {@literal null}.
+	 * @return
+	 */
+	private static int getSuffixIndex(String uri) {
+
+		for (int i = 0; i < uri.length(); i++) {
+
+			char c = uri.charAt(i);
+
+			if (c == '?' || c == '#') {
+				return i;
+			}
+		}
+
+		return uri.length();
+	}
+
+	private static List<String> getPathSegments(String path) {
+		return Arrays.asList(StringUtils.tokenizeToStringArray(path, "/"));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.LinkBuilder#slash(org.springframework.hateoas.Identifiable)
@@ -141,7 +248,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @see org.springframework.hateoas.LinkBuilder#toUri()
 	 */
 	public URI toUri() {
-		return uriComponents.encode().toUri().normalize();
+		return getUriComponents().encode().toUri().normalize();
 	}
 
 	public T addAffordances(Collection<Affordance> affordances) {
@@ -155,7 +262,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @see org.springframework.hateoas.LinkBuilder#withRel(java.lang.String)
 	 */
 	public Link withRel(String rel) {
-		return new Link(toString(), rel).withAffordances(affordances);
+		return new Link(toString(), rel, affordances);
 	}
 
 	/*
@@ -172,7 +279,31 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 */
 	@Override
 	public String toString() {
-		return uriComponents.toUriString();
+		return getUriString();
+	}
+
+	private String getUriString() {
+
+		String result = this.uri;
+
+		if (result == null) {
+			result = uriComponents.toUriString();
+			this.uri = result;
+		}
+
+		return result;
+	}
+
+	private UriComponents getUriComponents() {
+
+		UriComponents result = this.uriComponents;
+
+		if (result == null) {
+			result = UriComponentsBuilder.fromUriString(uri).build();
+			this.uriComponents = result;
+		}
+
+		return result;
 	}
 
 	/**
@@ -189,4 +320,16 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @return
 	 */
 	protected abstract T createNewInstance(UriComponentsBuilder builder);
+
+	/**
+	 * Creates a new instance of the sub-class for the given, already encoded URI. Sub-classes should override this to
+	 * use {@link #LinkBuilderSupport(String)} and thus avoid parsing the URI. The default implementation delegates to
+	 * {@link #createNewInstance(UriComponentsBuilder)}.
+	 * 
+	 * @param uri will never be {@literal null}.
+	 * @return
+	 */
+	protected T createNewInstance(String uri) {
+		return createNewInstance(UriComponentsBuilder.fromUriString(uri));
+	}
 }
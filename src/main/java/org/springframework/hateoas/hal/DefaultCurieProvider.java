@@ -17,18 +17,21 @@ package org.springframework.hateoas.hal;
 
 import lombok.Getter;
 
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.springframework.hateoas.IanaRels;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.support.BaseUris;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * Default implementation of {@link CurieProvider} rendering a single configurable {@link UriTemplate} based curie.
@@ -39,8 +42,13 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
  */
 public class DefaultCurieProvider implements CurieProvider {
 
+	private static final int CACHE_LIMIT = 256;
+
 	private final Map<String, UriTemplate> curies;
 	private final String defaultCurie;
+	private final boolean relativeCuries;
+	private final boolean cacheCurieInformation;
+	private final Map<String, Collection<? extends Object>> curieInformation = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link DefaultCurieProvider} for the given name and {@link UriTemplate}. The curie will be used to
@@ -89,6 +97,12 @@ public class DefaultCurieProvider implements CurieProvider {
 		this.defaultCurie = StringUtils.hasText(defaultCurieName) ? defaultCurieName
 				: curies.size() == 1 ? curies.keySet().iterator().next() : null;
 		this.curies = Collections.unmodifiableMap(curies);
+		this.relativeCuries = curies.values().stream().anyMatch(it -> !isAbsolute(it));
+
+		// Subclasses customizing the curie hrefs might depend on more than the application URI
+
+		Method method = ReflectionUtils.findMethod(getClass(), "getCurieHref", String.class, UriTemplate.class);
+		this.cacheCurieInformation = method != null && DefaultCurieProvider.class.equals(method.getDeclaringClass());
 	}
 
 	/* 
@@ -98,9 +112,28 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public Collection<? extends Object> getCurieInformation(Links links) {
 
-		return curies.entrySet().stream() //
-				.map(it -> new Curie(it.getKey(), getCurieHref(it.getKey(), it.getValue()))) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableCollection));
+		if (!cacheCurieInformation) {
+			return createCurieInformation();
+		}
+
+		// The curies only depend on the application URI if any of the templates is relative
+
+		String applicationUri = relativeCuries ? getApplicationUri() : "";
+		Collection<? extends Object> cached = curieInformation.get(applicationUri);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		Collection<? extends Object> result = createCurieInformation();
+
+		// Bound the cache as the application URI is derived from the request, e.g. its host header
+
+		if (curieInformation.size() < CACHE_LIMIT) {
+			curieInformation.put(applicationUri, result);
+		}
+
+		return result;
 	}
 
 	/* 
@@ -119,13 +152,19 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public String getNamespacedRelFor(String rel) {
 
-		boolean prefixingNeeded = defaultCurie != null && !IanaRels.isIanaRel(rel) && !rel.contains(":");
-		return prefixingNeeded ? String.format("%s:%s", defaultCurie, rel) : rel;
+		if (defaultCurie == null) {
+			return rel;
+		}
+
+		return LinkRelation.of(rel).getNamespacedValue(defaultCurie);
 	}
 
 	/**
 	 * Returns the href for the {@link Curie} instance to be created. Will prepend the current application URI (servlet
-	 * mapping) in case the template is not an absolute one in the first place.
+	 * mapping) in case the template is not an absolute one in the first place. The application URI is resolved through
+	 * {@link BaseUris#getBuilder()} to reuse the base URI already resolved for the current request. Outside of a request,
+	 * relative templates are rendered as is, where previous versions rejected them with an
+	 * {@link IllegalStateException}.
 	 * 
 	 * @param name will never be {@literal null} or empty.
 	 * @param template will never be {@literal null}.
@@ -133,12 +172,26 @@ public class DefaultCurieProvider implements CurieProvider {
 	 */
 	protected String getCurieHref(String name, UriTemplate template) {
 
-		if (template.toString().startsWith("http")) {
+		if (isAbsolute(template)) {
 			return template.toString();
 		}
 
-		String applicationUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().expand().toString();
-		return applicationUri.concat(template.toString());
+		return StringUtils.trimTrailingCharacter(getApplicationUri(), '/').concat(template.toString());
+	}
+
+	private Collection<? extends Object> createCurieInformation() {
+
+		return curies.entrySet().stream() //
+				.map(it -> new Curie(it.getKey(), getCurieHref(it.getKey(), it.getValue()))) //
+				.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableCollection));
+	}
+
+	private static String getApplicationUri() {
+		return BaseUris.getBuilder().build().toUriString();
+	}
+
+	private static boolean isAbsolute(UriTemplate template) {
+		return template.toString().startsWith("http");
 	}
 
 	/**
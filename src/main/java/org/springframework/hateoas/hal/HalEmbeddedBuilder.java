@@ -98,6 +98,19 @@ class HalEmbeddedBuilder {
 		embeddeds.put(collectionRel, list);
 	}
 
+	/**
+	 * Returns the collection relation type the given value would be added under.
+	 * 
+	 * @param source can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	String getCollectionRelFor(Object source) {
+
+		EmbeddedWrapper wrapper = wrappers.wrap(source);
+
+		return wrapper == null ? DEFAULT_REL : getDefaultedRelFor(wrapper, true);
+	}
+
 	@SuppressWarnings("unchecked")
 	private Collection<Object> asCollection(Object source) {
 		return source instanceof Collection ? (Collection<Object>) source : source == null ? Collections.emptySet()
@@ -25,6 +25,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
@@ -36,6 +37,9 @@ import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamedContent;
+import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.hateoas.hal.HalConfiguration.RenderSingleLinks;
 import org.springframework.util.Assert;
 
@@ -170,29 +174,49 @@ public class Jackson2HalModule extends SimpleModule {
 
 			Object currentValue = jgen.getCurrentValue();
 
-			if (currentValue instanceof Resources) {
-				if (mapper.hasCuriedEmbed((Resources<?>) currentValue)) {
-					curiedLinkPresent = true;
-				}
-			}
+			if (!prefixingRequired && currentValue instanceof ResourceSupport
+					&& ((ResourceSupport) currentValue).getLinks() == value) {
 
-			for (Link link : value) {
+				// Reuse the grouping maintained by the resource as the rels don't have to be namespaced
 
-				if (link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
-					continue;
-				}
+				for (Entry<String, List<Link>> entry : ((ResourceSupport) currentValue).getLinksByRel().entrySet()) {
 
-				String rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(link) : link.getRel();
+					List<Object> halLinks = new ArrayList<>(entry.getValue().size());
+
+					for (Link link : entry.getValue()) {
+						if (!link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
+							halLinks.add(toHalLink(link));
+						}
+					}
 
-				if (!link.getRel().equals(rel)) {
-					curiedLinkPresent = true;
+					if (!halLinks.isEmpty()) {
+						sortedLinks.put(entry.getKey(), halLinks);
+					}
 				}
 
-				sortedLinks //
-						.computeIfAbsent(rel, key -> new ArrayList<>())//
-						.add(toHalLink(link));
+			} else {
+
+				for (Link link : value) {
 
-				links.add(link);
+					// Added by HalResourcesSerializer, which renders the content before the links, for curied embeds
+
+					if (link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
+						curiedLinkPresent = true;
+						continue;
+					}
+
+					String rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(link) : link.getRel();
+
+					if (!link.getRel().equals(rel)) {
+						curiedLinkPresent = true;
+					}
+
+					sortedLinks //
+							.computeIfAbsent(rel, key -> new ArrayList<>())//
+							.add(toHalLink(link));
+
+					links.add(link);
+				}
 			}
 
 			if (!skipCuries && prefixingRequired && curiedLinkPresent) {
@@ -341,20 +365,80 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(Collection<?> value, JsonGenerator jgen, SerializerProvider provider)
 				throws IOException, JsonGenerationException {
 
+			if (value instanceof StreamedContent) {
+				serializeStreamed((StreamedContent<?>) value, jgen, provider);
+				return;
+			}
+
 			Map<String, Object> embeddeds = embeddedMapper.map(value);
 
 			Object currentValue = jgen.getCurrentValue();
 
-			if (currentValue instanceof ResourceSupport) {
+			// Derive the need for curies from the embeddeds as mapped content might be expensive to iterate again
 
-				if (embeddedMapper.hasCuriedEmbed(value)) {
-					((ResourceSupport) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
-				}
+			if (currentValue instanceof ResourceSupport && embeddedMapper.hasCuriedEmbed(embeddeds)) {
+				((ResourceSupport) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
 			}
 
 			provider.findValueSerializer(Map.class, property).serialize(embeddeds, jgen, provider);
 		}
 
+		/**
+		 * Writes the elements of the given {@link StreamedContent} one by one into an array under a single relation type,
+		 * which is either declared or derived from the first element. Closes the {@link StreamedContent} afterwards.
+		 * 
+		 * @param value must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void serializeStreamed(StreamedContent<?> value, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			try {
+
+				String rel = embeddedMapper.getRelFor(value);
+				Object currentValue = jgen.getCurrentValue();
+
+				if (currentValue instanceof ResourceSupport && rel.contains(":")) {
+					((ResourceSupport) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
+				}
+
+				EmbeddedWrappers wrappers = new EmbeddedWrappers(false);
+
+				jgen.writeStartObject();
+				jgen.writeFieldName(rel);
+				jgen.writeStartArray();
+
+				for (Object element : value) {
+
+					EmbeddedWrapper wrapper = wrappers.wrap(element);
+
+					if (wrapper == null) {
+						continue;
+					}
+
+					Object embedded = wrapper.getValue();
+
+					if (embedded instanceof Collection) {
+
+						for (Object nested : (Collection<?>) embedded) {
+							provider.defaultSerializeValue(nested, jgen);
+						}
+
+					} else {
+						provider.defaultSerializeValue(embedded, jgen);
+					}
+				}
+
+				jgen.writeEndArray();
+				jgen.writeEndObject();
+
+			} finally {
+				value.close();
+			}
+		}
+
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
@@ -377,7 +461,7 @@ public class Jackson2HalModule extends SimpleModule {
 
 		@Override
 		public boolean hasSingleElement(Collection<?> value) {
-			return value.size() == 1;
+			return !(value instanceof StreamedContent) && value.size() == 1;
 		}
 
 		@Override
@@ -892,6 +976,25 @@ public class Jackson2HalModule extends SimpleModule {
 			return builder.asMap();
 		}
 
+		/**
+		 * Returns the relation type to render the elements of the given {@link StreamedContent} under. That's the declared
+		 * one or the collection relation type of the first element, as the number of elements is not known up front.
+		 * 
+		 * @param source must not be {@literal null}.
+		 * @return
+		 */
+		public String getRelFor(StreamedContent<?> source) {
+
+			Assert.notNull(source, "Elements must not be null!");
+
+			if (source.getRel() != null) {
+				return source.getRel();
+			}
+
+			return new HalEmbeddedBuilder(relProvider, curieProvider, preferCollectionRels) //
+					.getCollectionRelFor(source.peek());
+		}
+
 		/**
 		 * Returns whether the given source elements will be namespaced.
 		 * 
@@ -899,8 +1002,20 @@ public class Jackson2HalModule extends SimpleModule {
 		 * @return
 		 */
 		public boolean hasCuriedEmbed(Iterable<?> source) {
+			return hasCuriedEmbed(map(source));
+		}
+
+		/**
+		 * Returns whether the given embedded values, as returned by {@link #map(Iterable)}, contain namespaced relations.
+		 * 
+		 * @param embeddeds must not be {@literal null}.
+		 * @return
+		 */
+		public boolean hasCuriedEmbed(Map<String, Object> embeddeds) {
+
+			Assert.notNull(embeddeds, "Embeddeds must not be null!");
 
-			return map(source).keySet().stream() //
+			return embeddeds.keySet().stream() //
 					.anyMatch(rel -> rel.contains(":"));
 		}
 	}
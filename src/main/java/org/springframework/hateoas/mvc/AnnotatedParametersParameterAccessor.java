@@ -15,6 +15,7 @@
  */
 package org.springframework.hateoas.mvc;
 
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
@@ -23,15 +24,21 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.NumberFormat;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.hateoas.core.AnnotationAttribute;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.springframework.util.StringUtils;
@@ -77,6 +84,23 @@ class AnnotatedParametersParameterAccessor {
 		return result;
 	}
 
+	/**
+	 * Returns {@link ParameterSlot}s for all parameters of the given {@link Method} that carry the configured
+	 * {@link AnnotationAttribute}. The slots capture all value independent information so that they can be reused to bind
+	 * the arguments of subsequent invocations of the {@link Method}.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	public List<ParameterSlot> getParameterSlots(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return getOrCreateMethodParametersFor(method).getParametersWith(attribute.getAnnotationType()).stream() //
+				.map(it -> new ParameterSlot(this, createParameter(it, null, attribute))) //
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * Create the {@link BoundMethodParameter} for the given {@link MethodParameter}, parameter value and
 	 * {@link AnnotationAttribute}.
@@ -113,6 +137,57 @@ class AnnotatedParametersParameterAccessor {
 		return METHOD_PARAMETERS_CACHE.computeIfAbsent(method, MethodParameters::new);
 	}
 
+	/**
+	 * Value independent binding information for a {@link MethodParameter}, i.e. the name of the template variable to
+	 * bind, whether the parameter is required and the source type to convert values from.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	static class ParameterSlot {
+
+		private final AnnotatedParametersParameterAccessor accessor;
+		private final @Getter MethodParameter parameter;
+		private final @Getter String variableName;
+		private final @Getter boolean required;
+		private final ParameterConverter converter;
+
+		/**
+		 * Creates a new {@link ParameterSlot} for the given {@link AnnotatedParametersParameterAccessor} from the given
+		 * unbound {@link BoundMethodParameter}.
+		 * 
+		 * @param accessor must not be {@literal null}.
+		 * @param parameter must not be {@literal null}.
+		 */
+		private ParameterSlot(AnnotatedParametersParameterAccessor accessor, BoundMethodParameter parameter) {
+
+			this.accessor = accessor;
+			this.parameter = parameter.parameter;
+			this.variableName = parameter.getVariableName();
+			this.required = parameter.isRequired();
+			this.converter = parameter.converter;
+		}
+
+		/**
+		 * Returns the verified value for the slot from the given invocation arguments.
+		 * 
+		 * @param arguments must not be {@literal null}.
+		 * @return the verified value or {@literal null} if the parameter is not supposed to be bound.
+		 */
+		public Object getValue(Object[] arguments) {
+			return accessor.verifyParameterValue(parameter, arguments[parameter.getParameterIndex()]);
+		}
+
+		/**
+		 * Returns the given value converted into a {@link String} based on default conversion service setup.
+		 * 
+		 * @param value can be {@literal null}.
+		 * @return
+		 */
+		public String asString(Object value) {
+			return converter.convert(value);
+		}
+	}
+
 	/**
 	 * Represents a {@link MethodParameter} alongside the value it has been bound to.
 	 * 
@@ -120,13 +195,10 @@ class AnnotatedParametersParameterAccessor {
 	 */
 	static class BoundMethodParameter {
 
-		private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
-		private static final TypeDescriptor STRING_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
-
 		private final MethodParameter parameter;
 		private final Object value;
 		private final AnnotationAttribute attribute;
-		private final TypeDescriptor parameterTypeDescriptor;
+		private final ParameterConverter converter;
 
 		/**
 		 * Creates a new {@link BoundMethodParameter}
@@ -142,7 +214,7 @@ class AnnotatedParametersParameterAccessor {
 			this.parameter = parameter;
 			this.value = value;
 			this.attribute = attribute;
-			this.parameterTypeDescriptor = TypeDescriptor.nested(parameter, parameter.isOptional() ? 1 : 0);
+			this.converter = ParameterConverter.of(parameter);
 		}
 
 		/**
@@ -178,10 +250,7 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public String asString() {
-
-			return value == null //
-					? null //
-					: (String) CONVERSION_SERVICE.convert(value, parameterTypeDescriptor, STRING_DESCRIPTOR);
+			return converter.convert(value);
 		}
 
 		/**
@@ -193,4 +262,90 @@ class AnnotatedParametersParameterAccessor {
 			return true;
 		}
 	}
+
+	/**
+	 * Converts values bound to a {@link MethodParameter} into {@link String}s. Resolved once per {@link MethodParameter}
+	 * and cached. Values of {@link String}, primitive wrapper, {@link UUID} and {@link Enum} parameters are converted
+	 * directly, all other ones are handed to the default conversion service.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	static class ParameterConverter {
+
+		private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
+		private static final TypeDescriptor STRING_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
+		private static final Map<MethodParameter, ParameterConverter> CACHE = new ConcurrentReferenceHashMap<>();
+
+		private final TypeDescriptor sourceType;
+		private final Function<Object, String> shortcut;
+
+		/**
+		 * Creates a new {@link ParameterConverter} for the given {@link MethodParameter}.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 */
+		private ParameterConverter(MethodParameter parameter) {
+
+			this.sourceType = TypeDescriptor.nested(parameter, parameter.isOptional() ? 1 : 0);
+			this.shortcut = getShortcut(sourceType);
+		}
+
+		/**
+		 * Returns the {@link ParameterConverter} for the given {@link MethodParameter}.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @return
+		 */
+		static ParameterConverter of(MethodParameter parameter) {
+			return CACHE.computeIfAbsent(parameter, ParameterConverter::new);
+		}
+
+		/**
+		 * Converts the given value into a {@link String}.
+		 * 
+		 * @param value can be {@literal null}.
+		 * @return
+		 */
+		String convert(Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			return shortcut != null && sourceType.getObjectType().isInstance(value) //
+					? shortcut.apply(value) //
+					: (String) CONVERSION_SERVICE.convert(value, sourceType, STRING_DESCRIPTOR);
+		}
+
+		/**
+		 * Returns a conversion shortcut producing the same result as the default conversion service for the given source
+		 * type or {@literal null} if the conversion service has to be used. Formatting annotations always require the
+		 * conversion service.
+		 * 
+		 * @param sourceType must not be {@literal null}.
+		 * @return
+		 */
+		private static Function<Object, String> getShortcut(TypeDescriptor sourceType) {
+
+			if (sourceType.hasAnnotation(NumberFormat.class) || sourceType.hasAnnotation(DateTimeFormat.class)) {
+				return null;
+			}
+
+			Class<?> type = sourceType.getObjectType();
+
+			if (String.class.equals(type)) {
+				return String.class::cast;
+			}
+
+			if (Enum.class.isAssignableFrom(type)) {
+				return it -> ((Enum<?>) it).name();
+			}
+
+			if (ClassUtils.isPrimitiveWrapper(type) || UUID.class.equals(type)) {
+				return Object::toString;
+			}
+
+			return null;
+		}
+	}
 }
@@ -17,7 +17,6 @@ package org.springframework.hateoas.mvc;
 
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.core.LinkBuilderSupport;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
@@ -36,13 +35,22 @@ public class BasicLinkBuilder extends LinkBuilderSupport<BasicLinkBuilder> {
 		super(builder);
 	}
 
+	/**
+	 * Creates a new {@link BasicLinkBuilder} using the given, already encoded URI.
+	 * 
+	 * @param uri must not be {@literal null}.
+	 */
+	private BasicLinkBuilder(String uri) {
+		super(uri);
+	}
+
 	/**
 	 * Creates a new {@link BasicLinkBuilder} to link to the current servlet mapping.
 	 * 
 	 * @return
 	 */
 	public static BasicLinkBuilder linkToCurrentMapping() {
-		return new BasicLinkBuilder(ServletUriComponentsBuilder.fromCurrentServletMapping());
+		return new BasicLinkBuilder(ControllerLinkBuilder.getBuilder());
 	}
 
 	/* 
@@ -54,6 +62,15 @@ public class BasicLinkBuilder extends LinkBuilderSupport<BasicLinkBuilder> {
 		return new BasicLinkBuilder(builder);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(java.lang.String)
+	 */
+	@Override
+	protected BasicLinkBuilder createNewInstance(String uri) {
+		return new BasicLinkBuilder(uri);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.mvc.LinkBuilderSupport#getThis()
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.springframework.hateoas.core.EncodingUtils.*;
+
+import java.util.Optional;
+
+import org.springframework.hateoas.Identifiable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creates {@link Link}s to individual resources exposed by a controller in bulk. The controller's base URI is resolved
+ * once so that creating a {@link Link} for an individual identifier is reduced to appending the encoded identifier to
+ * a shared prefix. Identifiers that contain URI structure, e.g. slashes or a query, are handed to the underlying
+ * {@link LinkBuilder}.
+ *
+ * <pre>
+ * BulkLinkBuilder builder = BulkLinkBuilder.linkTo(CustomerController.class);
+ *
+ * for (Customer customer : customers) {
+ * 	resources.add(new Resource&lt;&gt;(customer, builder.withSelfRel(customer.getId())));
+ * }
+ * </pre>
+ *
+ * @author Oliver Gierke
+ * @see ResourceAssemblerSupport#toResources(Iterable)
+ */
+public class BulkLinkBuilder {
+
+	private final LinkBuilder base;
+	private final String prefix;
+
+	/**
+	 * Creates a new {@link BulkLinkBuilder} for the given base {@link LinkBuilder}.
+	 *
+	 * @param base must not be {@literal null}.
+	 */
+	private BulkLinkBuilder(LinkBuilder base) {
+
+		Assert.notNull(base, "Base LinkBuilder must not be null!");
+
+		String uri = base.toString();
+
+		this.base = base;
+		this.prefix = uri.indexOf('?') != -1 || uri.indexOf('#') != -1 //
+				? null //
+				: StringUtils.trimTrailingCharacter(uri, '/');
+	}
+
+	/**
+	 * Creates a new {@link BulkLinkBuilder} pointing to the given controller class.
+	 *
+	 * @param controller must not be {@literal null}.
+	 * @param parameters parameters to expand the controller's mapping with, must not be {@literal null}.
+	 * @return
+	 * @see ControllerLinkBuilder#linkTo(Class, Object...)
+	 */
+	public static BulkLinkBuilder linkTo(Class<?> controller, Object... parameters) {
+		return new BulkLinkBuilder(ControllerLinkBuilder.linkTo(controller, parameters));
+	}
+
+	/**
+	 * Creates a new {@link BulkLinkBuilder} using the given {@link LinkBuilder} as base.
+	 *
+	 * @param base must not be {@literal null}.
+	 * @return
+	 */
+	public static BulkLinkBuilder of(LinkBuilder base) {
+		return new BulkLinkBuilder(base);
+	}
+
+	/**
+	 * Returns a {@link LinkBuilder} pointing to the resource with the given identifier. Equivalent to calling
+	 * {@link LinkBuilder#slash(Object)} on the base {@link LinkBuilder}.
+	 *
+	 * @param id can be {@literal null}.
+	 * @return
+	 */
+	public LinkBuilder slash(Object id) {
+		return base.slash(id);
+	}
+
+	/**
+	 * Creates a {@link Link} with a {@value Link#REL_SELF} relation pointing to the resource with the given identifier.
+	 *
+	 * @param id can be {@literal null}.
+	 * @return
+	 */
+	public Link withSelfRel(Object id) {
+		return withRel(id, Link.REL_SELF);
+	}
+
+	/**
+	 * Creates a {@link Link} with the given relation pointing to the resource with the given identifier.
+	 *
+	 * @param id can be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 */
+	public Link withRel(Object id, String rel) {
+
+		Object value = unwrap(id);
+
+		if (value == null) {
+			return base.withRel(rel);
+		}
+
+		String segment = value.toString();
+
+		if (prefix == null || !isPlainSegment(segment)) {
+			return base.slash(value).withRel(rel);
+		}
+
+		return new Link(prefix.concat("/").concat(encodePath(segment)), rel);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return base.toString();
+	}
+
+	private static Object unwrap(Object id) {
+
+		Object value = id instanceof Optional ? ((Optional<?>) id).orElse(null) : id;
+
+		return value instanceof Identifiable ? unwrap(((Identifiable<?>) value).getId()) : value;
+	}
+
+	/**
+	 * Returns whether the given segment can be appended to the prefix as is, i.e. doesn't need to be parsed into
+	 * individual path segments, a query or a fragment.
+	 *
+	 * @param segment must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isPlainSegment(String segment) {
+
+		if (!StringUtils.hasText(segment) || Character.isWhitespace(segment.charAt(0))
+				|| Character.isWhitespace(segment.charAt(segment.length() - 1))) {
+			return false;
+		}
+
+		for (int i = 0; i < segment.length(); i++) {
+
+			char c = segment.charAt(i);
+
+			if (c == '/' || c == '?' || c == '#') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -15,39 +15,35 @@
  */
 package org.springframework.hateoas.mvc;
 
-import static org.springframework.util.StringUtils.*;
-
-import lombok.RequiredArgsConstructor;
-import lombok.experimental.Delegate;
-
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-import javax.servlet.http.HttpServletRequest;
-
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.core.AffordanceModelFactory;
 import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.CachingMappingDiscoverer;
 import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
-import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.mvc.MethodReferences.Reference0;
+import org.springframework.hateoas.mvc.MethodReferences.Reference1;
+import org.springframework.hateoas.mvc.MethodReferences.Reference2;
+import org.springframework.hateoas.mvc.MethodReferences.Reference3;
+import org.springframework.hateoas.support.BaseUris;
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.DefaultUriTemplateHandler;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -66,9 +62,9 @@ import org.springframework.web.util.UriTemplate;
  */
 public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuilder> {
 
-	private static final String REQUEST_ATTRIBUTES_MISSING = "Could not find current request via RequestContextHolder. Is this being called from a Spring MVC handler?";
-	private static final CachingAnnotationMappingDiscoverer DISCOVERER = new CachingAnnotationMappingDiscoverer(
-			new AnnotationMappingDiscoverer(RequestMapping.class));
+	static final CachingMappingDiscoverer DISCOVERER = CachingMappingDiscoverer
+			.of(new AnnotationMappingDiscoverer(RequestMapping.class));
+	private static final Map<Class<?>, UriComponents> EXPANDED_MAPPINGS = new ConcurrentReferenceHashMap<>();
 	private static final ControllerLinkBuilderFactory FACTORY = new ControllerLinkBuilderFactory();
 	private static final CustomUriTemplateHandler HANDLER = new CustomUriTemplateHandler();
 	private static final SpringMvcAffordanceBuilder AFFORDANCE_BUILDER;
@@ -97,6 +93,18 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		this.variables = TemplateVariables.NONE;
 	}
 
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} using the given, already encoded URI.
+	 * 
+	 * @param uri must not be {@literal null}.
+	 */
+	private ControllerLinkBuilder(String uri) {
+
+		super(uri);
+
+		this.variables = TemplateVariables.NONE;
+	}
+
 	/**
 	 * Creates a new {@link ControllerLinkBuilder} using the given {@link UriComponents}.
 	 *
@@ -106,12 +114,19 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		this(uriComponents, TemplateVariables.NONE, null);
 	}
 
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} using the given {@link UriComponents}, {@link TemplateVariables} and
+	 * {@link MethodInvocation}. The {@link Affordance}s for the invocation are only calculated once they're accessed.
+	 *
+	 * @param uriComponents must not be {@literal null}.
+	 * @param variables must not be {@literal null}.
+	 * @param invocation can be {@literal null}.
+	 */
 	ControllerLinkBuilder(UriComponents uriComponents, TemplateVariables variables, MethodInvocation invocation) {
 
-		super(uriComponents);
+		super(uriComponents, new LazyAffordances(() -> findAffordances(invocation, uriComponents)));
 
 		this.variables = variables;
-		this.addAffordances(findAffordances(invocation, uriComponents));
 	}
 
 	/**
@@ -138,10 +153,9 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		Assert.notNull(controller, "Controller must not be null!");
 		Assert.notNull(parameters, "Parameters must not be null!");
 
-		String mapping = DISCOVERER.getMapping(controller);
-
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(mapping == null ? "/" : mapping);
-		UriComponents uriComponents = HANDLER.expandAndEncode(builder, parameters);
+		UriComponents uriComponents = parameters.length == 0 //
+				? EXPANDED_MAPPINGS.computeIfAbsent(controller, it -> expandMapping(it, parameters)) //
+				: expandMapping(controller, parameters);
 
 		return new ControllerLinkBuilder(getBuilder()).slash(uriComponents, true);
 	}
@@ -215,6 +229,99 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return FACTORY.linkTo(invocationValue);
 	}
 
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given method reference.
+	 * In contrast to {@link #linkTo(Object)} no proxy is created to capture the method invocation as the target method is
+	 * resolved from the method reference once and cached.
+	 * 
+	 * <pre>
+	 * Link link = linkTo(CustomerController::showAll).withRel("customers");
+	 * </pre>
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 * @see #linkTo(Reference1, Object)
+	 */
+	public static <T> ControllerLinkBuilder linkTo(Reference0<T> method) {
+		return linkToInvocation(MethodReferences.invocationOf(method));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given method reference
+	 * bound to the given argument.
+	 * 
+	 * <pre>
+	 * &#64;RequestMapping("/customers")
+	 * class CustomerController {
+	 * 
+	 *   &#64;RequestMapping("/{id}/addresses")
+	 *   HttpEntity&lt;Addresses&gt; showAddresses(@PathVariable Long id) { … } 
+	 * }
+	 * 
+	 * Link link = linkTo(CustomerController::showAddresses, 2L).withRel("addresses");
+	 * </pre>
+	 * 
+	 * The resulting {@link Link} will point to {@code /customers/2/addresses}, just like when using
+	 * {@link #linkTo(Object)} with {@link #methodOn(Class, Object...)} but without creating a proxy to capture the method
+	 * invocation.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param first the argument to bind to the method's parameter.
+	 * @return
+	 */
+	public static <T, P1> ControllerLinkBuilder linkTo(Reference1<T, P1> method, P1 first) {
+		return linkToInvocation(MethodReferences.invocationOf(method, first));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given method reference
+	 * bound to the given arguments.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param first the argument to bind to the method's first parameter.
+	 * @param second the argument to bind to the method's second parameter.
+	 * @return
+	 * @see #linkTo(Reference1, Object)
+	 */
+	public static <T, P1, P2> ControllerLinkBuilder linkTo(Reference2<T, P1, P2> method, P1 first, P2 second) {
+		return linkToInvocation(MethodReferences.invocationOf(method, first, second));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given method reference
+	 * bound to the given arguments.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param first the argument to bind to the method's first parameter.
+	 * @param second the argument to bind to the method's second parameter.
+	 * @param third the argument to bind to the method's third parameter.
+	 * @return
+	 * @see #linkTo(Reference1, Object)
+	 */
+	public static <T, P1, P2, P3> ControllerLinkBuilder linkTo(Reference3<T, P1, P2, P3> method, P1 first, P2 second,
+			P3 third) {
+		return linkToInvocation(MethodReferences.invocationOf(method, first, second, third));
+	}
+
+	private static ControllerLinkBuilder linkToInvocation(MethodInvocation invocation) {
+		return FACTORY.linkTo(invocation, Collections.emptyIterator());
+	}
+
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} for the given {@link UriComponentsBuilder}, which is expected to carry
+	 * an already expanded and encoded URI usually obtained by extending {@link #getBuilder()}. Primarily used by the link
+	 * factories generated by {@link org.springframework.hateoas.mvc.processor.ControllerLinksProcessor}.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @return
+	 */
+	public static ControllerLinkBuilder of(UriComponentsBuilder builder) {
+
+		Assert.notNull(builder, "UriComponentsBuilder must not be null!");
+
+		return new ControllerLinkBuilder(builder);
+	}
+
 	/**
 	 * Extract a {@link Link} from the {@link ControllerLinkBuilder} and look up the related {@link Affordance}. Should
 	 * only be one.
@@ -268,6 +375,15 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return new ControllerLinkBuilder(builder);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(java.lang.String)
+	 */
+	@Override
+	protected ControllerLinkBuilder createNewInstance(String uri) {
+		return new ControllerLinkBuilder(uri);
+	}
+
 	/**
 	 * Returns a {@link UriComponentsBuilder} to continue to build the already built URI in a more fine grained way.
 	 * 
@@ -302,73 +418,75 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with scheme tweaked in case the
 	 * request contains an {@code X-Forwarded-Ssl} header, which is not (yet) supported by the underlying
 	 * {@link UriComponentsBuilder}. If no {@link RequestContextHolder} exists (you're outside a Spring Web call), fall
-	 * back to relative URIs.
+	 * back to relative URIs. The base URI is only resolved once per request and cached as request attribute.
 	 * 
 	 * @return
+	 * @see BaseUris#getBuilder()
 	 */
 	public static UriComponentsBuilder getBuilder() {
+		return BaseUris.getBuilder();
+	}
 
-		if (RequestContextHolder.getRequestAttributes() == null) {
-			return UriComponentsBuilder.fromPath("/");
-		}
+	/**
+	 * Expands the type-level mapping of the given controller with the given parameters.
+	 * 
+	 * @param controller must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	private static UriComponents expandMapping(Class<?> controller, Object[] parameters) {
 
-		HttpServletRequest request = getCurrentRequest();
-		UriComponentsBuilder builder = ServletUriComponentsBuilder.fromServletMapping(request);
+		String mapping = DISCOVERER.getMapping(controller);
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(mapping == null ? "/" : mapping);
 
-		// special case handling for X-Forwarded-Ssl:
-		// apply it, but only if X-Forwarded-Proto is unset.
+		return HANDLER.expandAndEncode(builder, parameters);
+	}
 
-		String forwardedSsl = request.getHeader("X-Forwarded-Ssl");
-		ForwardedHeader forwarded = ForwardedHeader.of(request.getHeader(ForwardedHeader.NAME));
-		String proto = hasText(forwarded.getProto()) ? forwarded.getProto() : request.getHeader("X-Forwarded-Proto");
+	/**
+	 * Eagerly resolves the mappings of the given controller type and method.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @see LinkBuilderWarmUp
+	 */
+	static void warmUpMapping(Class<?> type, Method method) {
 
-		if (!hasText(proto) && hasText(forwardedSsl) && forwardedSsl.equalsIgnoreCase("on")) {
-			builder.scheme("https");
-		}
+		DISCOVERER.getMapping(type);
+		DISCOVERER.getMappingAsUriTemplate(type, method);
+	}
 
-		return builder;
+	/**
+	 * Eagerly compiles the link recipe for the given controller type and method.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @see LinkBuilderWarmUp
+	 */
+	static void warmUpLinkRecipe(Class<?> type, Method method) {
+		FACTORY.warmUp(type, method);
 	}
 
 	/**
-	 * Copy of {@link ServletUriComponentsBuilder#getCurrentRequest()} until SPR-10110 gets fixed.
+	 * Eagerly inspects the affordances of the given controller type and method.
 	 * 
-	 * @return
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @see LinkBuilderWarmUp
 	 */
-	@SuppressWarnings("null")
-	private static HttpServletRequest getCurrentRequest() {
-
-		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-		Assert.state(requestAttributes != null, REQUEST_ATTRIBUTES_MISSING);
-		Assert.isInstanceOf(ServletRequestAttributes.class, requestAttributes);
-		HttpServletRequest servletRequest = ((ServletRequestAttributes) requestAttributes).getRequest();
-		Assert.state(servletRequest != null, "Could not find current HttpServletRequest");
-		return servletRequest;
+	static void warmUpAffordances(Class<?> type, Method method) {
+		AFFORDANCE_BUILDER.warmUp(type, method, DISCOVERER);
 	}
 
 	/**
 	 * Look up {@link Affordance}s and {@link org.springframework.hateoas.AffordanceModel}s based on the
 	 * {@link MethodInvocation} and {@link UriComponents}.
 	 *
-	 * @param invocation
+	 * @param invocation can be {@literal null}.
 	 * @param components
 	 * @return
 	 */
 	private static Collection<Affordance> findAffordances(MethodInvocation invocation, UriComponents components) {
-		return AFFORDANCE_BUILDER.create(invocation, DISCOVERER, components);
-	}
-
-	@RequiredArgsConstructor
-	private static class CachingAnnotationMappingDiscoverer implements MappingDiscoverer {
-
-		private final @Delegate AnnotationMappingDiscoverer delegate;
-		private final Map<String, UriTemplate> templates = new ConcurrentReferenceHashMap<>();
-
-		public UriTemplate getMappingAsUriTemplate(Class<?> type, Method method) {
-
-			String mapping = delegate.getMapping(type, method);
-			
-			return templates.computeIfAbsent(mapping, UriTemplate::new);
-		}
+		return invocation == null ? Collections.emptyList() : AFFORDANCE_BUILDER.create(invocation, DISCOVERER, components);
 	}
 
 	private static class CustomUriTemplateHandler extends DefaultUriTemplateHandler {
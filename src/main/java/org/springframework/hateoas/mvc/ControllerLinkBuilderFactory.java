@@ -20,39 +20,42 @@ import static org.springframework.hateoas.TemplateVariables.*;
 import static org.springframework.hateoas.core.EncodingUtils.*;
 import static org.springframework.web.util.UriComponents.UriTemplateVariables.*;
 
+import lombok.Value;
+
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MethodLinkBuilderFactory;
 import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariables;
+import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.core.AnnotationAttribute;
-import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.CachingMappingDiscoverer;
+import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
-import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.ParameterSlot;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ValueConstants;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.web.util.UriTemplate;
 
 /**
  * Factory for {@link LinkBuilderSupport} instances based on the request mapping annotated on the given controller.
@@ -69,11 +72,12 @@ import org.springframework.web.util.UriTemplate;
  */
 public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<ControllerLinkBuilder> {
 
-	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
 	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR = new AnnotatedParametersParameterAccessor(
 			new AnnotationAttribute(PathVariable.class));
 	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
 
+	private final Map<RecipeKey, MethodLinkRecipe> recipes = new ConcurrentReferenceHashMap<>();
+
 	private List<UriComponentsContributor> uriComponentsContributors = new ArrayList<UriComponentsContributor>();
 
 	/**
@@ -85,6 +89,7 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	public void setUriComponentsContributors(List<? extends UriComponentsContributor> uriComponentsContributors) {
 		this.uriComponentsContributors = Collections.unmodifiableList(uriComponentsContributors);
+		this.recipes.clear();
 	}
 
 	/*
@@ -133,43 +138,70 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		Assert.isInstanceOf(LastInvocationAware.class, invocationValue);
 		LastInvocationAware invocations = (LastInvocationAware) invocationValue;
 
-		MethodInvocation invocation = invocations.getLastInvocation();
-		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
-		Method method = invocation.getMethod();
+		try {
+			return linkTo(invocations.getLastInvocation(), invocations.getObjectParameters());
+		} finally {
+			DummyInvocationUtils.release(invocationValue);
+		}
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the method captured in the given {@link MethodInvocation}.
+	 * 
+	 * @param invocation must not be {@literal null}.
+	 * @param classMappingParameters parameters to expand template variables in the type level mapping, must not be
+	 *          {@literal null}.
+	 * @return
+	 */
+	ControllerLinkBuilder linkTo(MethodInvocation invocation, Iterator<Object> classMappingParameters) {
 
-		String mapping = DISCOVERER.getMapping(invocation.getTargetType(), method);
+		Assert.notNull(invocation, "MethodInvocation must not be null!");
+		Assert.notNull(classMappingParameters, "Class mapping parameters must not be null!");
 
-		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
+		MethodLinkRecipe recipe = getRecipe(invocation.getTargetType(), invocation.getMethod());
+		Object[] arguments = invocation.getArguments();
+
+		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(recipe.getMapping());
 
-		UriTemplate template = new UriTemplate(mapping);
 		Map<String, Object> values = new HashMap<String, Object>();
-		Iterator<String> names = template.getVariableNames().iterator();
+		Iterator<String> names = recipe.getVariableNames().iterator();
 
 		while (classMappingParameters.hasNext()) {
 			values.put(names.next(), encodePath(classMappingParameters.next()));
 		}
 
-		for (BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR.getBoundParameters(invocation)) {
-			values.put(parameter.getVariableName(), encodePath(parameter.asString()));
+		for (ParameterSlot slot : recipe.getPathVariables()) {
+
+			Object value = slot.getValue(arguments);
+
+			if (value != null) {
+				values.put(slot.getVariableName(), encodePath(slot.asString(value)));
+			}
 		}
 
 		List<String> optionalEmptyParameters = new ArrayList<String>();
 
-		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(invocation)) {
+		for (ParameterSlot slot : recipe.getRequestParameters()) {
+
+			Object value = slot.getValue(arguments);
+
+			if (value == null) {
+				continue;
+			}
 
-			bindRequestParameters(builder, parameter);
+			bindRequestParameters(builder, slot, value);
 
-			if (SKIP_VALUE.equals(parameter.getValue())) {
+			if (SKIP_VALUE.equals(value)) {
 
-				values.put(parameter.getVariableName(), SKIP_VALUE);
+				values.put(slot.getVariableName(), SKIP_VALUE);
 
-				if (!parameter.isRequired()) {
-					optionalEmptyParameters.add(parameter.getVariableName());
+				if (!slot.isRequired()) {
+					optionalEmptyParameters.add(slot.getVariableName());
 				}
 			}
 		}
 
-		for (String variable : template.getVariableNames()) {
+		for (String variable : recipe.getVariableNames()) {
 			if (!values.containsKey(variable)) {
 				values.put(variable, SKIP_VALUE);
 			}
@@ -198,8 +230,6 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		return ControllerLinkBuilder.linkTo(method, parameters);
 	}
 
-
-
 	/**
 	 * Applies the configured {@link UriComponentsContributor}s to the given {@link UriComponentsBuilder}.
 	 * 
@@ -210,15 +240,16 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	protected UriComponentsBuilder applyUriComponentsContributer(UriComponentsBuilder builder,
 			MethodInvocation invocation) {
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
-		Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
+		MethodLinkRecipe recipe = getRecipe(invocation.getTargetType(), invocation.getMethod());
+		Object[] arguments = invocation.getArguments();
 
-		for (MethodParameter parameter : parameters.getParameters()) {
-			Object parameterValue = parameterValues.next();
-			for (UriComponentsContributor contributor : uriComponentsContributors) {
-				if (contributor.supportsParameter(parameter)) {
-					contributor.enhance(builder, parameter, parameterValue);
-				}
+		for (ContributorSlot slot : recipe.getContributors()) {
+
+			MethodParameter parameter = slot.getParameter();
+			Object parameterValue = arguments[parameter.getParameterIndex()];
+
+			for (UriComponentsContributor contributor : slot.getContributors()) {
+				contributor.enhance(builder, parameter, parameterValue);
 			}
 		}
 
@@ -226,16 +257,74 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	}
 
 	/**
-	 * Populates the given {@link UriComponentsBuilder} with request parameters found in the given
-	 * {@link BoundMethodParameter}.
+	 * Eagerly compiles the {@link MethodLinkRecipe} for the given controller type and method.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @see LinkBuilderWarmUp
+	 */
+	void warmUp(Class<?> type, Method method) {
+		getRecipe(type, method);
+	}
+
+	/**
+	 * Returns the {@link MethodLinkRecipe} for the given {@link Method} invoked on the given type.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private MethodLinkRecipe getRecipe(Class<?> type, Method method) {
+		return recipes.computeIfAbsent(new RecipeKey(type, method), this::createRecipe);
+	}
+
+	/**
+	 * Compiles a {@link MethodLinkRecipe} for the given {@link RecipeKey}, i.e. resolves the mapping, the template
+	 * variables, the annotated parameters to bind and the {@link UriComponentsContributor}s to apply.
+	 * 
+	 * @param key must not be {@literal null}.
+	 * @return
+	 */
+	private MethodLinkRecipe createRecipe(RecipeKey key) {
+
+		Method method = key.getMethod();
+		Class<?> type = key.getType();
+		CachingMappingDiscoverer discoverer = ControllerLinkBuilder.DISCOVERER;
+		String mapping = discoverer.getMapping(type, method);
+		List<ContributorSlot> contributors = new ArrayList<ContributorSlot>();
+
+		for (MethodParameter parameter : new MethodParameters(method).getParameters()) {
+
+			List<UriComponentsContributor> supporting = uriComponentsContributors.stream() //
+					.filter(it -> it.supportsParameter(parameter)) //
+					.collect(Collectors.toList());
+
+			if (!supporting.isEmpty()) {
+				contributors.add(new ContributorSlot(parameter, supporting));
+			}
+		}
+
+		UriTemplate template = discoverer.getMappingAsUriTemplate(type, method);
+		List<String> variableNames = template == null ? Collections.<String> emptyList() : template.getVariableNames();
+
+		return new MethodLinkRecipe(mapping, //
+				variableNames, //
+				PATH_VARIABLE_ACCESSOR.getParameterSlots(method), //
+				REQUEST_PARAM_ACCESSOR.getParameterSlots(method), //
+				contributors);
+	}
+
+	/**
+	 * Populates the given {@link UriComponentsBuilder} with request parameters found in the given value bound to the
+	 * given {@link ParameterSlot}.
 	 * 
 	 * @param builder must not be {@literal null}.
 	 * @param parameter must not be {@literal null}.
+	 * @param value must not be {@literal null}.
 	 */
 	@SuppressWarnings("unchecked")
-	private static void bindRequestParameters(UriComponentsBuilder builder, BoundMethodParameter parameter) {
+	private static void bindRequestParameters(UriComponentsBuilder builder, ParameterSlot parameter, Object value) {
 
-		Object value = parameter.getValue();
 		String key = parameter.getVariableName();
 
 		if (value instanceof MultiValueMap) {
@@ -269,10 +358,52 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			}
 
 		} else {
-			builder.queryParam(key, encodeParameter(parameter.asString()));
+			builder.queryParam(key, encodeParameter(parameter.asString(value)));
 		}
 	}
 
+	/**
+	 * Cache key for {@link MethodLinkRecipe}s, as the mapping of a {@link Method} depends on the type it's invoked on.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	@Value
+	private static class RecipeKey {
+
+		Class<?> type;
+		Method method;
+	}
+
+	/**
+	 * Precompiled, invocation independent information to build a link to a controller method: the joined mapping, the
+	 * template variables contained in it, the binding plans for path variables and request parameters as well as the
+	 * {@link UriComponentsContributor}s to apply to the method's parameters. Building a link then boils down to binding
+	 * the invocation arguments into the prepared slots.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	@Value
+	private static class MethodLinkRecipe {
+
+		String mapping;
+		List<String> variableNames;
+		List<ParameterSlot> pathVariables;
+		List<ParameterSlot> requestParameters;
+		List<ContributorSlot> contributors;
+	}
+
+	/**
+	 * A {@link MethodParameter} alongside all {@link UriComponentsContributor}s supporting it.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	@Value
+	private static class ContributorSlot {
+
+		MethodParameter parameter;
+		List<UriComponentsContributor> contributors;
+	}
+
 	/**
 	 * Custom extension of {@link AnnotatedParametersParameterAccessor} for {@link RequestParam} to allow {@literal null}
 	 * values handed in for optional request parameters.
@@ -15,8 +15,6 @@
  */
 package org.springframework.hateoas.mvc;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
-
 import java.util.Arrays;
 
 import org.springframework.hateoas.Identifiable;
@@ -33,8 +31,6 @@ import org.springframework.util.Assert;
 public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiable<?>, D extends ResourceSupport>
 		extends ResourceAssemblerSupport<T, D> {
 
-	private final Class<?> controllerClass;
-
 	/**
 	 * Creates a new {@link ResourceAssemblerSupport} using the given controller class and resource type.
 	 * 
@@ -42,9 +38,7 @@ public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiabl
 	 * @param resourceType must not be {@literal null}.
 	 */
 	public IdentifiableResourceAssemblerSupport(Class<?> controllerClass, Class<D> resourceType) {
-
 		super(controllerClass, resourceType);
-		this.controllerClass = controllerClass;
 	}
 
 	/**
@@ -68,7 +62,7 @@ public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiabl
 		Assert.notNull(id, "Id must not be null!");
 
 		D instance = instantiateResource(entity);
-		instance.add(linkTo(controllerClass, unwrapIdentifyables(parameters)).slash(id).withSelfRel());
+		instance.add(getLinkBuilder(unwrapIdentifyables(parameters)).withSelfRel(id));
 		return instance;
 	}
 
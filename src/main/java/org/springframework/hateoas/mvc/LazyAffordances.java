@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.hateoas.Affordance;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link List} of {@link Affordance}s that are only computed once the list is accessed for the first time. This
+ * allows {@link org.springframework.hateoas.Link}s to carry their {@link Affordance}s without paying for the creation
+ * of the {@link org.springframework.hateoas.AffordanceModel}s in case the representation rendered doesn't need them.
+ * The {@link Affordance}s are resolved when the list gets serialized.
+ *
+ * @author Oliver Gierke
+ */
+class LazyAffordances extends AbstractList<Affordance> implements Serializable {
+
+	private static final long serialVersionUID = 4826392418526736521L;
+
+	private final transient Supplier<Collection<Affordance>> supplier;
+	private transient volatile List<Affordance> affordances;
+
+	/**
+	 * Creates a new {@link LazyAffordances} for the given {@link Supplier}.
+	 *
+	 * @param supplier must not be {@literal null}.
+	 */
+	LazyAffordances(Supplier<Collection<Affordance>> supplier) {
+
+		Assert.notNull(supplier, "Supplier must not be null!");
+
+		this.supplier = supplier;
+	}
+
+	/**
+	 * Returns whether the {@link Affordance}s have already been computed.
+	 *
+	 * @return
+	 */
+	boolean isResolved() {
+		return affordances != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	public Affordance get(int index) {
+		return resolve().get(index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return resolve().size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#set(int, java.lang.Object)
+	 */
+	@Override
+	public Affordance set(int index, Affordance element) {
+		return resolve().set(index, element);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#add(int, java.lang.Object)
+	 */
+	@Override
+	public void add(int index, Affordance element) {
+		resolve().add(index, element);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#remove(int)
+	 */
+	@Override
+	public Affordance remove(int index) {
+		return resolve().remove(index);
+	}
+
+	/**
+	 * Serializes the resolved {@link Affordance}s as the {@link Supplier} can't be serialized.
+	 *
+	 * @return
+	 */
+	private Object writeReplace() {
+		return new ArrayList<Affordance>(resolve());
+	}
+
+	private List<Affordance> resolve() {
+
+		List<Affordance> result = this.affordances;
+
+		if (result != null) {
+			return result;
+		}
+
+		synchronized (this) {
+
+			if (this.affordances == null) {
+				this.affordances = new ArrayList<Affordance>(supplier.get());
+			}
+
+			return this.affordances;
+		}
+	}
+}
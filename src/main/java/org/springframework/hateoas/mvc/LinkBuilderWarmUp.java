@@ -0,0 +1,265 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * {@link ApplicationListener} to eagerly prepare the infrastructure used by {@link ControllerLinkBuilder} for all
+ * controller methods of the {@link ApplicationContext} once it has been refreshed. That moves the generation of the
+ * invocation recording proxies, the inspection of the request mappings, the compilation of the link recipes and the
+ * inspection of the affordances from the first requests served into the startup of the application. Register it as a
+ * bean to enable it:
+ *
+ * <pre>
+ * &#64;Bean
+ * LinkBuilderWarmUp linkBuilderWarmUp() {
+ * 	return new LinkBuilderWarmUp();
+ * }
+ * </pre>
+ *
+ * The controller methods are looked up from the {@link RequestMappingHandlerMapping}s registered in the
+ * {@link ApplicationContext} or, if there are none, from the beans annotated with {@link Controller}. Methods that can't
+ * be prepared are skipped. A report about the time spent is logged on {@literal INFO} level.
+ *
+ * @author Oliver Gierke
+ */
+@Slf4j
+public class LinkBuilderWarmUp implements ApplicationListener<ContextRefreshedEvent> {
+
+	private final AtomicBoolean warmedUp = new AtomicBoolean(false);
+	private volatile Report report;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		if (!warmedUp.compareAndSet(false, true)) {
+			return;
+		}
+
+		this.report = warmUp(findControllerMethods(event.getApplicationContext()));
+
+		if (log.isInfoEnabled()) {
+			log.info(report.toString());
+		}
+	}
+
+	/**
+	 * Returns the {@link Report} of the warm-up performed or {@literal null} if it hasn't run yet.
+	 *
+	 * @return
+	 */
+	Report getReport() {
+		return report;
+	}
+
+	private static Report warmUp(Map<Class<?>, Set<Method>> methods) {
+
+		Report report = new Report();
+
+		report.phase("proxies", methods, LinkBuilderWarmUp::warmUpProxies);
+		report.phase("mappings", methods, ControllerLinkBuilder::warmUpMapping);
+		report.phase("link recipes", methods, ControllerLinkBuilder::warmUpLinkRecipe);
+		report.phase("affordances", methods, ControllerLinkBuilder::warmUpAffordances);
+
+		return report;
+	}
+
+	/**
+	 * Invokes the given method on an invocation recording proxy so that the proxy classes for the controller type and
+	 * the method's return type get generated.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 */
+	private static void warmUpProxies(Class<?> type, Method method) {
+
+		int modifiers = method.getModifiers();
+
+		// Methods that can't be intercepted would invoke the actual controller code
+
+		if (!Modifier.isPublic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isStatic(modifiers)) {
+			throw new IllegalArgumentException(String.format("Method %s can't be intercepted!", method));
+		}
+
+		Object proxy = DummyInvocationUtils.methodOn(type);
+		Object[] arguments = new Object[method.getParameterCount()];
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		for (int i = 0; i < arguments.length; i++) {
+			arguments[i] = parameterTypes[i].isPrimitive() ? Array.get(Array.newInstance(parameterTypes[i], 1), 0) : null;
+		}
+
+		ReflectionUtils.makeAccessible(method);
+		DummyInvocationUtils.release(ReflectionUtils.invokeMethod(method, proxy, arguments));
+	}
+
+	private static Map<Class<?>, Set<Method>> findControllerMethods(ApplicationContext context) {
+
+		Map<Class<?>, Set<Method>> methods = new LinkedHashMap<>();
+
+		for (RequestMappingHandlerMapping mapping : context.getBeansOfType(RequestMappingHandlerMapping.class)
+				.values()) {
+			for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+				methods.computeIfAbsent(handlerMethod.getBeanType(), it -> new LinkedHashSet<>())
+						.add(handlerMethod.getMethod());
+			}
+		}
+
+		if (!methods.isEmpty()) {
+			return methods;
+		}
+
+		for (String name : context.getBeanNamesForAnnotation(Controller.class)) {
+
+			Class<?> type = context.getType(name);
+
+			if (type == null) {
+				continue;
+			}
+
+			Class<?> userType = ClassUtils.getUserClass(type);
+			Set<Method> mappedMethods = new LinkedHashSet<>();
+
+			for (Method method : ReflectionUtils.getUniqueDeclaredMethods(userType)) {
+				if (AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class)) {
+					mappedMethods.add(method);
+				}
+			}
+
+			if (!mappedMethods.isEmpty()) {
+				methods.computeIfAbsent(userType, it -> new LinkedHashSet<>()).addAll(mappedMethods);
+			}
+		}
+
+		return methods;
+	}
+
+	/**
+	 * The outcome of a warm-up, i.e. the number of methods prepared and the time spent per phase.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static class Report {
+
+		private final Map<String, Long> durations = new LinkedHashMap<>();
+		private final Set<Method> methods = new LinkedHashSet<>();
+		private final Set<Method> skipped = new LinkedHashSet<>();
+
+		/**
+		 * Applies the given phase to all given methods, recording the time spent and the methods that failed.
+		 *
+		 * @param name must not be {@literal null}.
+		 * @param methods must not be {@literal null}.
+		 * @param phase must not be {@literal null}.
+		 */
+		void phase(String name, Map<Class<?>, Set<Method>> methods, BiConsumer<Class<?>, Method> phase) {
+
+			long start = System.nanoTime();
+
+			for (Entry<Class<?>, Set<Method>> entry : methods.entrySet()) {
+				for (Method method : entry.getValue()) {
+
+					this.methods.add(method);
+
+					try {
+						phase.accept(entry.getKey(), method);
+					} catch (RuntimeException o_O) {
+
+						log.debug("Skipping {} of {} during link builder warm-up: {}", name, method, o_O.getMessage());
+
+						skipped.add(method);
+					}
+				}
+			}
+
+			durations.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+
+		/**
+		 * Returns the number of controller methods that were inspected.
+		 *
+		 * @return
+		 */
+		int getMethodCount() {
+			return methods.size();
+		}
+
+		/**
+		 * Returns the controller methods for which at least one phase failed.
+		 *
+		 * @return
+		 */
+		Set<Method> getSkippedMethods() {
+			return Collections.unmodifiableSet(skipped);
+		}
+
+		/**
+		 * Returns the time spent per phase in milliseconds.
+		 *
+		 * @return
+		 */
+		Map<String, Long> getDurations() {
+			return Collections.unmodifiableMap(durations);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+
+			long total = durations.values().stream().mapToLong(Long::longValue).sum();
+			String phases = durations.entrySet().stream() //
+					.map(it -> String.format("%s %d ms", it.getKey(), it.getValue())) //
+					.collect(Collectors.joining(", "));
+
+			return String.format("Warmed up link building for %d controller methods in %d ms (%s), skipped %d.",
+					methods.size(), total, phases, skipped.size());
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.springframework.asm.Type;
+import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Serializable functional interfaces to refer to controller methods via Java 8 method references, e.g.
+ * {@code CustomerController::show}, and the infrastructure to resolve the referenced {@link Method} from them. The
+ * {@link Method} is resolved once per method reference class and cached so that no proxy has to be created to capture
+ * an invocation.
+ *
+ * @author Oliver Gierke
+ * @see ControllerLinkBuilder#linkTo(Reference1, Object)
+ */
+@UtilityClass
+public class MethodReferences {
+
+	private static final Map<Class<?>, ResolvedReference> CACHE = new ConcurrentReferenceHashMap<>(16,
+			ReferenceType.WEAK);
+
+	/**
+	 * A reference to a controller method taking no arguments.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@FunctionalInterface
+	public interface Reference0<T> extends Serializable {
+		Object invoke(T controller);
+	}
+
+	/**
+	 * A reference to a controller method taking a single argument.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@FunctionalInterface
+	public interface Reference1<T, P1> extends Serializable {
+		Object invoke(T controller, P1 first);
+	}
+
+	/**
+	 * A reference to a controller method taking two arguments.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@FunctionalInterface
+	public interface Reference2<T, P1, P2> extends Serializable {
+		Object invoke(T controller, P1 first, P2 second);
+	}
+
+	/**
+	 * A reference to a controller method taking three arguments.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@FunctionalInterface
+	public interface Reference3<T, P1, P2, P3> extends Serializable {
+		Object invoke(T controller, P1 first, P2 second, P3 third);
+	}
+
+	/**
+	 * Creates a {@link MethodInvocation} for the controller method referred to by the given method reference and the
+	 * given arguments.
+	 *
+	 * @param reference must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	static MethodInvocation invocationOf(Serializable reference, Object... arguments) {
+
+		Assert.notNull(reference, "Method reference must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+
+		ResolvedReference resolved = CACHE.computeIfAbsent(reference.getClass(), it -> resolve(reference));
+
+		return new ReferenceMethodInvocation(resolved.getTargetType(), resolved.getMethod(), arguments);
+	}
+
+	/**
+	 * Resolves the target type and {@link Method} of the given method reference by inspecting its
+	 * {@link SerializedLambda}. Bound references, e.g. {@code controller::show}, are rejected as they capture the receiver
+	 * instead of declaring it as argument.
+	 *
+	 * @param reference must not be {@literal null}.
+	 * @return
+	 */
+	private static ResolvedReference resolve(Serializable reference) {
+
+		SerializedLambda lambda = getSerializedLambda(reference);
+		int kind = lambda.getImplMethodKind();
+
+		if (kind != MethodHandleInfo.REF_invokeVirtual && kind != MethodHandleInfo.REF_invokeInterface
+				|| lambda.getImplMethodName().startsWith("lambda$") || lambda.getCapturedArgCount() > 0) {
+			throw new IllegalArgumentException(String.format(
+					"Only references to instance methods of a controller, e.g. CustomerController::show, are supported! Got %s.",
+					lambda.getImplMethodName()));
+		}
+
+		ClassLoader classLoader = reference.getClass().getClassLoader();
+		Class<?> declaringType = ClassUtils.resolveClassName(toClassName(lambda.getImplClass()), classLoader);
+		Type receiverType = Type.getArgumentTypes(lambda.getInstantiatedMethodType())[0];
+		Class<?> targetType = ClassUtils.resolveClassName(receiverType.getClassName(), classLoader);
+
+		Method method = findMethod(declaringType, lambda.getImplMethodName(), lambda.getImplMethodSignature());
+
+		return new ResolvedReference(targetType, method);
+	}
+
+	private static SerializedLambda getSerializedLambda(Serializable reference) {
+
+		Method writeReplace = ReflectionUtils.findMethod(reference.getClass(), "writeReplace");
+
+		Assert.notNull(writeReplace, () -> String.format("%s is not a method reference!", reference));
+
+		ReflectionUtils.makeAccessible(writeReplace);
+		Object result = ReflectionUtils.invokeMethod(writeReplace, reference);
+
+		Assert.isInstanceOf(SerializedLambda.class, result, "Given object is not a method reference!");
+
+		return (SerializedLambda) result;
+	}
+
+	private static Method findMethod(Class<?> type, String name, String descriptor) {
+
+		for (Method candidate : ReflectionUtils.getAllDeclaredMethods(type)) {
+			if (candidate.getName().equals(name) && Type.getMethodDescriptor(candidate).equals(descriptor)) {
+				return candidate;
+			}
+		}
+
+		throw new IllegalStateException(
+				String.format("Could not find method %s%s on %s!", name, descriptor, type.getName()));
+	}
+
+	private static String toClassName(String internalName) {
+		return internalName.replace('/', '.');
+	}
+
+	@Value
+	private static class ResolvedReference {
+
+		Class<?> targetType;
+		Method method;
+	}
+
+	@Value
+	private static class ReferenceMethodInvocation implements MethodInvocation {
+
+		@NonNull Class<?> targetType;
+		@NonNull Method method;
+		@NonNull Object[] arguments;
+	}
+}
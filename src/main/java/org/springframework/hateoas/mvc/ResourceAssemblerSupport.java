@@ -15,26 +15,44 @@
  */
 package org.springframework.hateoas.mvc;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
-
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Base class to implement {@link ResourceAssembler}s. Will automate {@link ResourceSupport} instance creation and make
- * sure a self-link is always added.
+ * sure a self-link is always added. While converting entities via {@link #toResources(Iterable)}, the controller's base
+ * URI is only resolved once per set of parameters and the self links are created using a {@link BulkLinkBuilder}.
+ * Large collections can be converted in parallel by configuring an {@link Executor} via
+ * {@link #setParallelExecutor(Executor)}.
  * 
  * @author Oliver Gierke
  */
 public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> implements ResourceAssembler<T, D> {
 
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1000;
+
+	private static final ThreadLocal<Executor> PARALLEL_EXECUTOR = new ThreadLocal<>();
+
 	private final Class<?> controllerClass;
 	private final Class<D> resourceType;
+	private final ThreadLocal<Map<List<Object>, BulkLinkBuilder>> linkBuilders = new ThreadLocal<>();
+
+	private Executor executor;
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 
 	/**
 	 * Creates a new {@link ResourceAssemblerSupport} using the given controller class and resource type.
@@ -51,16 +69,79 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		this.resourceType = resourceType;
 	}
 
+	/**
+	 * Configures the {@link Executor} to convert large collections of entities in parallel with. Collections with at least
+	 * {@link #setParallelThreshold(int) the configured threshold} of elements are split into chunks that are converted
+	 * on the given {@link Executor}, while the order of the resources returned is preserved. The current request context
+	 * is propagated to the worker threads so that links are still built against the current request. Defaults to
+	 * {@literal null}, i.e. all entities are converted on the calling thread.
+	 * <p>
+	 * The calling thread waits for the chunks to be converted. Collections converted while already converting a chunk on
+	 * the same {@link Executor}, e.g. by a nested {@link ResourceAssemblerSupport}, are thus converted on the current
+	 * worker thread to not wait for the bounded {@link Executor} from within itself. For the same reason, the
+	 * {@link Executor} should not be shared with other tasks that convert collections using it.
+	 * 
+	 * @param executor can be {@literal null} to disable parallel conversion.
+	 */
+	public void setParallelExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Configures the minimum number of entities handed into {@link #toResources(Iterable)} to convert them in parallel.
+	 * Defaults to {@value #DEFAULT_PARALLEL_THRESHOLD}.
+	 * 
+	 * @param threshold must be greater than zero.
+	 * @see #setParallelExecutor(Executor)
+	 */
+	public void setParallelThreshold(int threshold) {
+
+		Assert.isTrue(threshold > 0, "Parallel threshold must be greater than zero!");
+
+		this.parallelThreshold = threshold;
+	}
+
 	/**
 	 * Converts all given entities into resources.
 	 * 
 	 * @see #toResource(Object)
+	 * @see #setParallelExecutor(Executor)
 	 * @param entities must not be {@literal null}.
 	 * @return
 	 */
 	public List<D> toResources(Iterable<? extends T> entities) {
 
 		Assert.notNull(entities, "Entities must not be null!");
+
+		if (linkBuilders.get() != null) {
+			return convert(entities);
+		}
+
+		Executor executor = this.executor;
+		Iterable<? extends T> source = entities;
+
+		if (executor != null) {
+
+			List<? extends T> elements = entities instanceof List ? (List<? extends T>) entities : toList(entities);
+
+			if (elements.size() >= parallelThreshold && PARALLEL_EXECUTOR.get() != executor) {
+				return convertInParallel(elements, executor);
+			}
+
+			source = elements;
+		}
+
+		linkBuilders.set(new HashMap<List<Object>, BulkLinkBuilder>());
+
+		try {
+			return convert(source);
+		} finally {
+			linkBuilders.remove();
+		}
+	}
+
+	private List<D> convert(Iterable<? extends T> entities) {
+
 		List<D> result = new ArrayList<D>();
 
 		for (T entity : entities) {
@@ -70,6 +151,106 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		return result;
 	}
 
+	/**
+	 * Splits the given entities into chunks and converts them on the given {@link Executor}, propagating the current
+	 * {@link RequestAttributes} to the worker threads and marking them as converting on the given {@link Executor}.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @return
+	 */
+	private List<D> convertInParallel(List<? extends T> entities, Executor executor) {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		// Resolve the base URI on the calling thread so that workers only read the cached request attribute
+		if (attributes != null) {
+			ControllerLinkBuilder.getBuilder();
+		}
+
+		Map<List<Object>, BulkLinkBuilder> cache = new ConcurrentHashMap<List<Object>, BulkLinkBuilder>();
+
+		int size = entities.size();
+		int chunks = Math.min(size, Runtime.getRuntime().availableProcessors() * 4);
+		int chunkSize = (size + chunks - 1) / chunks;
+
+		List<CompletableFuture<List<D>>> futures = new ArrayList<CompletableFuture<List<D>>>(chunks);
+
+		for (int start = 0; start < size; start += chunkSize) {
+
+			List<? extends T> chunk = entities.subList(start, Math.min(start + chunkSize, size));
+
+			futures.add(CompletableFuture.supplyAsync(() -> convert(chunk, attributes, cache, executor), executor));
+		}
+
+		List<D> result = new ArrayList<D>(size);
+
+		try {
+
+			for (CompletableFuture<List<D>> future : futures) {
+				result.addAll(future.join());
+			}
+
+		} catch (CompletionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw o_O;
+		}
+
+		return result;
+	}
+
+	private List<D> convert(List<? extends T> chunk, RequestAttributes attributes,
+			Map<List<Object>, BulkLinkBuilder> cache, Executor executor) {
+
+		RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+		Map<List<Object>, BulkLinkBuilder> previousCache = linkBuilders.get();
+		Executor previousExecutor = PARALLEL_EXECUTOR.get();
+
+		RequestContextHolder.setRequestAttributes(attributes);
+		linkBuilders.set(cache);
+		PARALLEL_EXECUTOR.set(executor);
+
+		try {
+			return convert(chunk);
+		} finally {
+
+			RequestContextHolder.setRequestAttributes(previousAttributes);
+
+			if (previousExecutor == null) {
+				PARALLEL_EXECUTOR.remove();
+			} else {
+				PARALLEL_EXECUTOR.set(previousExecutor);
+			}
+
+			if (previousCache == null) {
+				linkBuilders.remove();
+			} else {
+				linkBuilders.set(previousCache);
+			}
+		}
+	}
+
+	private static <S> List<S> toList(Iterable<S> source) {
+
+		List<S> result = new ArrayList<S>();
+
+		for (S element : source) {
+			result.add(element);
+		}
+
+		return result;
+	}
+
 	/**
 	 * Creates a new resource with a self link to the given id.
 	 * 
@@ -87,10 +268,28 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		Assert.notNull(id, "Id must not be null!");
 
 		D instance = instantiateResource(entity);
-		instance.add(linkTo(controllerClass, parameters).slash(id).withSelfRel());
+		instance.add(getLinkBuilder(parameters).withSelfRel(id));
 		return instance;
 	}
 
+	/**
+	 * Returns the {@link BulkLinkBuilder} pointing to the controller for the given parameters. Within a call to
+	 * {@link #toResources(Iterable)} the {@link BulkLinkBuilder} is reused for all entities using the same parameters.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	protected BulkLinkBuilder getLinkBuilder(Object... parameters) {
+
+		Map<List<Object>, BulkLinkBuilder> cache = linkBuilders.get();
+
+		if (cache == null) {
+			return BulkLinkBuilder.linkTo(controllerClass, parameters);
+		}
+
+		return cache.computeIfAbsent(Arrays.asList(parameters), it -> BulkLinkBuilder.linkTo(controllerClass, parameters));
+	}
+
 	/**
 	 * Instantiates the resource object. Default implementation will assume a no-arg constructor and use reflection but
 	 * can be overridden to manually set up the object instance initially (e.g. to improve performance if this becomes an
@@ -28,6 +28,7 @@ import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamedContent;
 import org.springframework.hateoas.core.EmbeddedWrapper;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
@@ -105,25 +106,57 @@ public class ResourceProcessorInvoker {
 			Resources<?> resources = (Resources<?>) value;
 			ResolvableType elementTargetType = ResolvableType.forClass(Resources.class, referenceType.getRawClass())
 					.getGeneric(0);
-			List<Object> result = new ArrayList<Object>(resources.getContent().size());
+			Collection<?> content = resources.getContent();
+
+			if (content instanceof StreamedContent) {
+
+				ReflectionUtils.setField(ResourceProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD, resources,
+						processElementsOf((StreamedContent<?>) content, elementTargetType));
+
+			} else {
 
-			for (Object element : resources) {
+				List<Object> result = new ArrayList<Object>(content.size());
 
-				ResolvableType elementType = ResolvableType.forClass(element.getClass());
+				for (Object element : resources) {
 
-				if (!getRawType(elementTargetType).equals(elementType.getRawClass())) {
-					elementTargetType = elementType;
+					ResolvableType elementType = ResolvableType.forClass(element.getClass());
+
+					if (!getRawType(elementTargetType).equals(elementType.getRawClass())) {
+						elementTargetType = elementType;
+					}
+
+					result.add(invokeProcessorsFor(element, elementTargetType));
 				}
 
-				result.add(invokeProcessorsFor(element, elementTargetType));
+				ReflectionUtils.setField(ResourceProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD, resources, result);
 			}
-
-			ReflectionUtils.setField(ResourceProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD, resources, result);
 		}
 
 		return (T) invokeProcessorsFor((Object) value, referenceType);
 	}
 
+	/**
+	 * Returns a {@link StreamedContent} invoking the {@link ResourceProcessor}s for each element of the given one when it
+	 * is read, so that the elements don't have to be collected upfront.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param elementTargetType must not be {@literal null}.
+	 * @return
+	 */
+	private StreamedContent<Object> processElementsOf(StreamedContent<?> content, ResolvableType elementTargetType) {
+
+		Class<?> rawTargetType = getRawType(elementTargetType);
+
+		return content.map(element -> {
+
+			ResolvableType elementType = rawTargetType.equals(element.getClass()) //
+					? elementTargetType //
+					: ResolvableType.forClass(element.getClass());
+
+			return invokeProcessorsFor(element, elementType);
+		});
+	}
+
 	/**
 	 * Invokes all registered {@link ResourceProcessor}s registered for the given {@link ResolvableType}.
 	 * 
@@ -380,7 +413,9 @@ public class ResourceProcessorInvoker {
 				return false;
 			}
 
-			Object element = content.iterator().next();
+			Object element = content instanceof StreamedContent //
+					? ((StreamedContent<?>) content).peek() //
+					: content.iterator().next();
 			ResolvableType resourceType = superType.getGeneric(0);
 
 			if (element instanceof Resource) {
@@ -55,13 +55,41 @@ class SpringMvcAffordance implements Affordance {
 	 * Handle on the Spring MVC controller {@link Method}.
 	 */
 	private final Method method;
+
+	/**
+	 * {@link MethodParameter}s based on Spring MVC's {@link RequestBody}s.
+	 */
+	private final List<MethodParameter> inputMethodParameters;
+
+	/**
+	 * {@link QueryParameter}s based on Spring MVC's {@link RequestParam}s.
+	 */
+	private final List<QueryParameter> queryMethodParameters;
 	private final Map<MediaType, AffordanceModel> affordanceModels;
 
 	/**
 	 * Construct a Spring MVC-based {@link Affordance} based on Spring MVC controller method and {@link RequestMethod}.
 	 */
 	public SpringMvcAffordance(HttpMethod httpMethod, Method method) {
-		this(httpMethod, method, new HashMap<MediaType, AffordanceModel>());
+		this(httpMethod, method, new MethodParameters(method));
+	}
+
+	/**
+	 * Construct a Spring MVC-based {@link Affordance} based on Spring MVC controller method and {@link RequestMethod}
+	 * using the given, already resolved input and query parameters.
+	 * 
+	 * @param httpMethod must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param inputMethodParameters must not be {@literal null}.
+	 * @param queryMethodParameters must not be {@literal null}.
+	 */
+	SpringMvcAffordance(HttpMethod httpMethod, Method method, List<MethodParameter> inputMethodParameters,
+			List<QueryParameter> queryMethodParameters) {
+		this(httpMethod, method, inputMethodParameters, queryMethodParameters, new HashMap<MediaType, AffordanceModel>());
+	}
+
+	private SpringMvcAffordance(HttpMethod httpMethod, Method method, MethodParameters parameters) {
+		this(httpMethod, method, parameters.getParametersWith(RequestBody.class), toQueryParameters(parameters));
 	}
 
 	/*
@@ -98,24 +126,12 @@ class SpringMvcAffordance implements Affordance {
 	}
 
 	/**
-	 * Get a listing of {@link MethodParameter}s based on Spring MVC's {@link RequestBody}s.
-	 *
-	 * @return
-	 */
-	@Override
-	public List<MethodParameter> getInputMethodParameters() {
-		return new MethodParameters(this.method).getParametersWith(RequestBody.class);
-	}
-
-	/**
-	 * Get a listing of {@link MethodParameter}s based on Spring MVC's {@link RequestParam}s.
-	 *
+	 * Creates {@link QueryParameter}s for all {@link MethodParameter}s annotated with {@link RequestParam}.
+	 * 
+	 * @param parameters must not be {@literal null}.
 	 * @return
 	 */
-	@Override
-	public List<QueryParameter> getQueryMethodParameters() {
-
-		MethodParameters parameters = new MethodParameters(this.method);
+	static List<QueryParameter> toQueryParameters(MethodParameters parameters) {
 
 		return parameters.getParametersWith(RequestParam.class).stream()
 			.map(methodParameter -> methodParameter.getParameterAnnotation(RequestParam.class))
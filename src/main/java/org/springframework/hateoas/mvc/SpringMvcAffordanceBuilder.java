@@ -17,30 +17,47 @@ package org.springframework.hateoas.mvc;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.QueryParameter;
 import org.springframework.hateoas.core.AffordanceModelFactory;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.hateoas.support.PropertyUtils;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.util.UriComponents;
 
 /**
- * Construct {@link SpringMvcAffordance}s using a collection of {@link AffordanceModelFactory}s.
+ * Construct {@link SpringMvcAffordance}s using a collection of {@link AffordanceModelFactory}s. The request methods as
+ * well as the input and query parameters of a controller method are only inspected once and cached so that creating
+ * {@link Affordance}s for a link only has to create the {@link org.springframework.hateoas.AffordanceModel}s for the
+ * expanded URI.
  * 
  * @author Greg Turnquist
+ * @author Oliver Gierke
  */
 @RequiredArgsConstructor
 class SpringMvcAffordanceBuilder {
 
 	private final @NonNull PluginRegistry<? extends AffordanceModelFactory, MediaType> factories;
+	private final Map<AffordanceKey, List<AffordanceMetadata>> metadata = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Use the attributes of the current method call along with a collection of {@link AffordanceModelFactory}'s to create
@@ -54,12 +71,13 @@ class SpringMvcAffordanceBuilder {
 	public Collection<Affordance> create(MethodInvocation invocation, MappingDiscoverer discoverer,
 			UriComponents components) {
 
-		Method method = invocation.getMethod();
+		AffordanceKey key = new AffordanceKey(invocation.getTargetType(), invocation.getMethod());
 		List<Affordance> affordances = new ArrayList<Affordance>();
 
-		for (HttpMethod requestMethod : discoverer.getRequestMethod(invocation.getTargetType(), method)) {
+		for (AffordanceMetadata metadata : this.metadata.computeIfAbsent(key, it -> createMetadata(it, discoverer))) {
 
-			SpringMvcAffordance affordance = new SpringMvcAffordance(requestMethod, invocation.getMethod());
+			SpringMvcAffordance affordance = new SpringMvcAffordance(metadata.getHttpMethod(), key.getMethod(),
+					metadata.getInputParameters(), metadata.getQueryParameters());
 
 			for (AffordanceModelFactory factory : factories) {
 				affordance.addAffordanceModel(factory.getAffordanceModel(affordance, invocation, components));
@@ -70,4 +88,67 @@ class SpringMvcAffordanceBuilder {
 
 		return affordances;
 	}
+
+	/**
+	 * Eagerly inspects the given controller method and the input types of its affordances.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param discoverer must not be {@literal null}.
+	 * @see LinkBuilderWarmUp
+	 */
+	void warmUp(Class<?> type, Method method, MappingDiscoverer discoverer) {
+
+		List<AffordanceMetadata> metadata = this.metadata.computeIfAbsent(new AffordanceKey(type, method),
+				it -> createMetadata(it, discoverer));
+
+		metadata.stream() //
+				.flatMap(it -> it.getInputParameters().stream()) //
+				.findFirst() //
+				.ifPresent(it -> PropertyUtils.findProperties(ResolvableType.forMethodParameter(it)));
+	}
+
+	/**
+	 * Inspects the controller method identified by the given {@link AffordanceKey} and creates an
+	 * {@link AffordanceMetadata} per request method it is mapped to.
+	 * 
+	 * @param key must not be {@literal null}.
+	 * @param discoverer must not be {@literal null}.
+	 * @return
+	 */
+	private static List<AffordanceMetadata> createMetadata(AffordanceKey key, MappingDiscoverer discoverer) {
+
+		Method method = key.getMethod();
+		MethodParameters parameters = new MethodParameters(method);
+
+		List<MethodParameter> inputParameters = Collections
+				.unmodifiableList(parameters.getParametersWith(RequestBody.class));
+		List<QueryParameter> queryParameters = Collections
+				.unmodifiableList(SpringMvcAffordance.toQueryParameters(parameters));
+
+		return discoverer.getRequestMethod(key.getType(), method).stream() //
+				.map(it -> new AffordanceMetadata(it, inputParameters, queryParameters)) //
+				.collect(Collectors.toList());
+	}
+
+	@Value
+	private static class AffordanceKey {
+
+		Class<?> type;
+		Method method;
+	}
+
+	/**
+	 * The request independent information about an {@link Affordance} for a particular {@link HttpMethod} of a
+	 * controller method.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@Value
+	private static class AffordanceMetadata {
+
+		HttpMethod httpMethod;
+		List<MethodParameter> inputParameters;
+		List<QueryParameter> queryParameters;
+	}
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Annotation processor generating typed link factories for Spring MVC controllers. For every type annotated with
+ * {@code @Controller}, {@code @RestController}, {@code @RequestMapping} or {@code @ExposesResourceFor} a class named
+ * after the controller with a {@code Links} suffix is generated into the controller's package. It exposes a static
+ * method per request mapped controller method, taking the values for the path variables and request parameters and
+ * returning a {@link org.springframework.hateoas.mvc.ControllerLinkBuilder}:
+ *
+ * <pre>
+ * &#64;RequestMapping("/customers")
+ * class CustomerController {
+ *
+ *   &#64;GetMapping("/{id}")
+ *   HttpEntity&lt;Customer&gt; show(@PathVariable Long id) { … }
+ * }
+ *
+ * Link link = CustomerControllerLinks.show(2L).withSelfRel();
+ * </pre>
+ *
+ * The mappings are resolved at compile time so that creating a link neither requires reflection, nor proxies, nor
+ * annotation lookups at runtime. To keep it that way, only controller methods whose path variables and request
+ * parameters are of simple types (primitives and their wrappers, {@link String}, {@link java.math.BigInteger},
+ * {@link java.math.BigDecimal}, {@link java.util.UUID} and enums) are considered. Path variables declared in the type
+ * level mapping that are not bound by a method parameter are exposed as leading {@link Object} parameters. Request
+ * parameters with a {@literal null} value are omitted. The processor is not registered automatically, so it has to be
+ * activated explicitly, e.g. via the compiler's {@code -processor} option.
+ *
+ * @author Oliver Gierke
+ */
+public class ControllerLinksProcessor extends AbstractProcessor {
+
+	private static final String REQUEST_MAPPING = "org.springframework.web.bind.annotation.RequestMapping";
+	private static final Set<String> CONTROLLER_ANNOTATIONS = new HashSet<>(Arrays.asList(
+			"org.springframework.stereotype.Controller", "org.springframework.web.bind.annotation.RestController",
+			"org.springframework.hateoas.ExposesResourceFor", REQUEST_MAPPING));
+
+	private static final String SUFFIX = "Links";
+	private static final String PATH_VARIABLE = "org.springframework.web.bind.annotation.PathVariable";
+	private static final String REQUEST_PARAM = "org.springframework.web.bind.annotation.RequestParam";
+	private static final List<String> MAPPING_ANNOTATIONS = Arrays.asList(REQUEST_MAPPING, //
+			"org.springframework.web.bind.annotation.GetMapping", //
+			"org.springframework.web.bind.annotation.PostMapping", //
+			"org.springframework.web.bind.annotation.PutMapping", //
+			"org.springframework.web.bind.annotation.DeleteMapping", //
+			"org.springframework.web.bind.annotation.PatchMapping");
+	private static final Set<String> SIMPLE_TYPES = new HashSet<>(Arrays.asList(String.class.getName(),
+			Boolean.class.getName(), Byte.class.getName(), Short.class.getName(), Integer.class.getName(),
+			Long.class.getName(), Float.class.getName(), Double.class.getName(), Character.class.getName(),
+			"java.math.BigInteger", "java.math.BigDecimal", "java.util.UUID"));
+	private static final Pattern MULTIPLE_SLASHES = Pattern.compile("\\/{2,}");
+
+	private final Set<String> generated = new HashSet<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedAnnotationTypes()
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return CONTROLLER_ANNOTATIONS;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		Set<TypeElement> controllers = new LinkedHashSet<>();
+
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.INTERFACE) {
+					controllers.add((TypeElement) element);
+				}
+			}
+		}
+
+		for (TypeElement controller : controllers) {
+
+			if (generated.add(controller.getQualifiedName().toString())) {
+				generateLinksFor(controller);
+			}
+		}
+
+		return false;
+	}
+
+	private void generateLinksFor(TypeElement controller) {
+
+		String typeMapping = getMapping(findAnnotation(controller, REQUEST_MAPPING));
+		List<String> methods = new ArrayList<>();
+		Set<String> signatures = new HashSet<>();
+
+		for (ExecutableElement method : ElementFilter.methodsIn(controller.getEnclosedElements())) {
+
+			Set<Modifier> modifiers = method.getModifiers();
+
+			if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+				continue;
+			}
+
+			AnnotationMirror mapping = findMappingAnnotation(method);
+
+			if (mapping == null) {
+				continue;
+			}
+
+			LinkMethod linkMethod = LinkMethod.of(method, join(typeMapping, getMapping(mapping)));
+
+			if (linkMethod.getProblem() != null) {
+				note(method, linkMethod.getProblem());
+				continue;
+			}
+
+			if (!signatures.add(linkMethod.getSignature())) {
+				note(method, "Link method with the same signature already generated!");
+				continue;
+			}
+
+			methods.add(linkMethod.toSource(controller));
+		}
+
+		if (methods.isEmpty()) {
+			return;
+		}
+
+		String packageName = getPackage(controller).getQualifiedName().toString();
+		String className = getLinksClassName(controller);
+		String qualifiedName = packageName.isEmpty() ? className : packageName.concat(".").concat(className);
+
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source.append("/**\n") //
+				.append(" * Link factory for {@link ").append(controller.getQualifiedName()).append("}.\n") //
+				.append(" * Generated by ").append(ControllerLinksProcessor.class.getName()).append(", do not edit.\n") //
+				.append(" */\n") //
+				.append("public final class ").append(className).append(" {\n\n") //
+				.append("\tprivate ").append(className).append("() {}\n");
+
+		methods.forEach(source::append);
+
+		source.append("}\n");
+
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, controller).openWriter()) {
+			writer.write(source.toString());
+		} catch (IOException o_O) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					String.format("Could not write link factory %s: %s", qualifiedName, o_O.getMessage()), controller);
+		}
+	}
+
+	private void note(Element element, String message) {
+		processingEnv.getMessager().printMessage(Kind.NOTE, "No link method generated: ".concat(message), element);
+	}
+
+	/**
+	 * Joins the given type and method level mappings the same way
+	 * {@link org.springframework.hateoas.core.AnnotationMappingDiscoverer} does at runtime.
+	 *
+	 * @param typeMapping can be {@literal null}.
+	 * @param mapping can be {@literal null}.
+	 * @return
+	 */
+	static String join(String typeMapping, String mapping) {
+
+		if (mapping == null) {
+			return typeMapping == null ? "" : typeMapping;
+		}
+
+		return typeMapping == null || "/".equals(typeMapping) //
+				? mapping //
+				: MULTIPLE_SLASHES.matcher(typeMapping.concat("/").concat(mapping)).replaceAll("/");
+	}
+
+	private static String getLinksClassName(TypeElement controller) {
+
+		StringBuilder builder = new StringBuilder(controller.getSimpleName());
+		Element enclosing = controller.getEnclosingElement();
+
+		while (enclosing instanceof TypeElement) {
+			builder.insert(0, "_").insert(0, enclosing.getSimpleName());
+			enclosing = enclosing.getEnclosingElement();
+		}
+
+		return builder.append(SUFFIX).toString();
+	}
+
+	private static PackageElement getPackage(Element element) {
+
+		Element current = element;
+
+		while (!(current instanceof PackageElement)) {
+			current = current.getEnclosingElement();
+		}
+
+		return (PackageElement) current;
+	}
+
+	private static AnnotationMirror findMappingAnnotation(Element element) {
+
+		for (String annotation : MAPPING_ANNOTATIONS) {
+
+			AnnotationMirror mirror = findAnnotation(element, annotation);
+
+			if (mirror != null) {
+				return mirror;
+			}
+		}
+
+		return null;
+	}
+
+	static AnnotationMirror findAnnotation(Element element, String annotationType) {
+
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+
+			TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+
+			if (type.getQualifiedName().contentEquals(annotationType)) {
+				return mirror;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the first mapping declared in the given mapping annotation or {@literal null} if none declared.
+	 *
+	 * @param mapping can be {@literal null}.
+	 * @return
+	 */
+	private static String getMapping(AnnotationMirror mapping) {
+
+		if (mapping == null) {
+			return null;
+		}
+
+		Object value = getAttribute(mapping, "value", "path");
+
+		if (value instanceof List) {
+			List<?> values = (List<?>) value;
+			return values.isEmpty() ? null : (String) ((AnnotationValue) values.get(0)).getValue();
+		}
+
+		return (String) value;
+	}
+
+	/**
+	 * Returns the value of the first of the given attributes explicitly declared on the given annotation.
+	 *
+	 * @param annotation must not be {@literal null}.
+	 * @param names must not be {@literal null}.
+	 * @return
+	 */
+	static Object getAttribute(AnnotationMirror annotation, String... names) {
+
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values = annotation.getElementValues();
+
+		for (String name : names) {
+			for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+				if (entry.getKey().getSimpleName().contentEquals(name)) {
+					return entry.getValue().getValue();
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns whether the given {@link TypeMirror} is a simple type that can be converted into a {@link String} without
+	 * involving a conversion service.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isSimpleType(TypeMirror type) {
+
+		if (type.getKind().isPrimitive()) {
+			return true;
+		}
+
+		if (type.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+
+		TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+
+		return element.getKind() == ElementKind.ENUM || SIMPLE_TYPES.contains(element.getQualifiedName().toString());
+	}
+
+	static boolean isEnum(TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+	}
+
+	static AnnotationMirror getPathVariable(VariableElement parameter) {
+		return findAnnotation(parameter, PATH_VARIABLE);
+	}
+
+	static AnnotationMirror getRequestParam(VariableElement parameter) {
+		return findAnnotation(parameter, REQUEST_PARAM);
+	}
+}
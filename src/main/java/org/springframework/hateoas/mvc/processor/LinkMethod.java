@@ -0,0 +1,334 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * A link factory method to be generated by {@link ControllerLinksProcessor} for a controller method. Splits the
+ * method's mapping into literal parts and template variables and binds the latter to the method's {@code PathVariable}
+ * parameters.
+ *
+ * @author Oliver Gierke
+ */
+class LinkMethod {
+
+	private static final String LINK_BUILDER = "org.springframework.hateoas.mvc.ControllerLinkBuilder";
+	private static final String ENCODING_UTILS = "org.springframework.hateoas.core.EncodingUtils";
+	private static final String URI_COMPONENTS_BUILDER = "org.springframework.web.util.UriComponentsBuilder";
+
+	private final ExecutableElement method;
+	private final String mapping;
+	private final List<Object> parts = new ArrayList<>();
+	private final List<Parameter> parameters = new ArrayList<>();
+	private String problem;
+
+	private LinkMethod(ExecutableElement method, String mapping) {
+
+		this.method = method;
+		this.mapping = mapping;
+	}
+
+	/**
+	 * Creates a new {@link LinkMethod} for the given controller method and its resolved mapping. Inspect
+	 * {@link #getProblem()} to find out whether a link method can actually be generated.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param mapping must not be {@literal null}.
+	 * @return
+	 */
+	static LinkMethod of(ExecutableElement method, String mapping) {
+
+		LinkMethod result = new LinkMethod(method, mapping);
+		result.problem = result.parse();
+
+		return result;
+	}
+
+	/**
+	 * Returns a description of why no link method can be generated or {@literal null} if it can.
+	 *
+	 * @return
+	 */
+	String getProblem() {
+		return problem;
+	}
+
+	/**
+	 * Returns the signature of the link method to be generated, i.e. its name and parameter types.
+	 *
+	 * @return
+	 */
+	String getSignature() {
+
+		return parameters.stream() //
+				.map(it -> it.type) //
+				.collect(Collectors.joining(",", method.getSimpleName() + "(", ")"));
+	}
+
+	/**
+	 * Renders the source of the link method.
+	 *
+	 * @param controller must not be {@literal null}.
+	 * @return
+	 */
+	String toSource(TypeElement controller) {
+
+		StringBuilder source = new StringBuilder("\n");
+
+		source.append("\t/**\n") //
+				.append("\t * Creates a link to {@link ").append(controller.getQualifiedName()).append("#")
+				.append(method.getSimpleName()).append("}, mapped to {@code ").append(mapping).append("}.\n") //
+				.append("\t */\n") //
+				.append("\tpublic static ").append(LINK_BUILDER).append(" ").append(method.getSimpleName()).append("(") //
+				.append(parameters.stream().map(it -> it.type + " " + it.name).collect(Collectors.joining(", "))) //
+				.append(") {\n\n");
+
+		List<Parameter> requestParameters = parameters.stream() //
+				.filter(it -> it.requestParameter != null) //
+				.collect(Collectors.toList());
+
+		String builder = LINK_BUILDER + ".getBuilder().path(" + getPathExpression() + ")";
+
+		if (requestParameters.isEmpty()) {
+			return source.append("\t\treturn ").append(LINK_BUILDER).append(".of(").append(builder).append(");\n\t}\n")
+					.toString();
+		}
+
+		// $-prefixed to not clash with the names of the method parameters
+
+		source.append("\t\t").append(URI_COMPONENTS_BUILDER).append(" $builder = ").append(builder).append(";\n");
+
+		for (Parameter parameter : requestParameters) {
+
+			String statement = "$builder.queryParam(" + literal(parameter.requestParameter) + ", " + ENCODING_UTILS
+					+ ".encodeParameter(" + parameter.toStringExpression() + "));\n";
+
+			if (parameter.primitive) {
+				source.append("\n\t\t").append(statement);
+			} else {
+				source.append("\n\t\tif (").append(parameter.name).append(" != null) {\n") //
+						.append("\t\t\t").append(statement) //
+						.append("\t\t}\n");
+			}
+		}
+
+		return source.append("\n\t\treturn ").append(LINK_BUILDER).append(".of($builder);\n\t}\n").toString();
+	}
+
+	/**
+	 * Parses the mapping and the method's parameters.
+	 *
+	 * @return a description of the problem preventing the generation of the link method or {@literal null} if there is
+	 *         none.
+	 */
+	private String parse() {
+
+		List<String> variables = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		int depth = 0;
+		int start = -1;
+
+		for (int i = 0; i < mapping.length(); i++) {
+
+			char c = mapping.charAt(i);
+
+			if (c == '{' && depth++ == 0) {
+				start = i + 1;
+			} else if (c == '}' && --depth == 0) {
+
+				String variable = mapping.substring(start, i);
+				int colon = variable.indexOf(':');
+				variable = (colon == -1 ? variable : variable.substring(0, colon)).trim();
+
+				if (literal.length() > 0) {
+					parts.add(literal.toString());
+					literal.setLength(0);
+				}
+
+				parts.add(new Variable(variable));
+				variables.add(variable);
+
+			} else if (depth == 0) {
+				literal.append(c);
+			}
+		}
+
+		if (depth != 0) {
+			return String.format("Unbalanced template variables in mapping %s!", mapping);
+		}
+
+		if (literal.length() > 0) {
+			parts.add(literal.toString());
+		}
+
+		List<Parameter> methodParameters = new ArrayList<>();
+
+		for (VariableElement element : method.getParameters()) {
+
+			AnnotationMirror pathVariable = ControllerLinksProcessor.getPathVariable(element);
+			AnnotationMirror requestParam = ControllerLinksProcessor.getRequestParam(element);
+
+			if (pathVariable == null && requestParam == null) {
+				continue;
+			}
+
+			TypeMirror type = element.asType();
+
+			if (!ControllerLinksProcessor.isSimpleType(type)) {
+				return String.format("Parameter %s is of unsupported type %s!", element.getSimpleName(), type);
+			}
+
+			String name = getName(pathVariable == null ? requestParam : pathVariable, element);
+			Parameter parameter = new Parameter(type, element.getSimpleName().toString(), pathVariable == null ? name : null);
+
+			if (pathVariable != null) {
+
+				if (!variables.contains(name)) {
+					return String.format("Path variable %s not found in mapping %s!", name, mapping);
+				}
+
+				bind(name, parameter);
+			}
+
+			methodParameters.add(parameter);
+		}
+
+		for (Object part : parts) {
+
+			if (!(part instanceof Variable)) {
+				continue;
+			}
+
+			Variable variable = (Variable) part;
+
+			if (variable.parameter != null) {
+				continue;
+			}
+
+			if (!SourceVersion.isName(variable.name)) {
+				return String.format("Template variable %s can't be used as parameter name!", variable.name);
+			}
+
+			Parameter parameter = new Parameter(null, variable.name, null);
+
+			bind(variable.name, parameter);
+			parameters.add(parameter);
+		}
+
+		for (Parameter parameter : methodParameters) {
+
+			if (parameters.stream().anyMatch(it -> it.name.equals(parameter.name))) {
+				return String.format("Duplicate parameter name %s!", parameter.name);
+			}
+
+			parameters.add(parameter);
+		}
+
+		return null;
+	}
+
+	private void bind(String name, Parameter parameter) {
+
+		parts.stream() //
+				.filter(Variable.class::isInstance) //
+				.map(Variable.class::cast) //
+				.filter(it -> it.name.equals(name)) //
+				.forEach(it -> it.parameter = parameter);
+	}
+
+	private String getPathExpression() {
+
+		if (parts.isEmpty()) {
+			return "\"\"";
+		}
+
+		return parts.stream() //
+				.map(it -> it instanceof Variable //
+						? ENCODING_UTILS + ".encodePath(" + ((Variable) it).parameter.toStringExpression() + ")" //
+						: literal((String) it)) //
+				.collect(Collectors.joining(" + "));
+	}
+
+	private static String getName(AnnotationMirror annotation, VariableElement parameter) {
+
+		Object name = ControllerLinksProcessor.getAttribute(annotation, "value", "name");
+
+		return name == null || name.toString().isEmpty() ? parameter.getSimpleName().toString() : name.toString();
+	}
+
+	private static String literal(String source) {
+		return "\"" + source.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+	/**
+	 * A template variable contained in the mapping alongside the {@link Parameter} bound to it.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Variable {
+
+		private final String name;
+		private Parameter parameter;
+
+		Variable(String name) {
+			this.name = name;
+		}
+	}
+
+	/**
+	 * A parameter of the link method to be generated.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Parameter {
+
+		private final String type;
+		private final String name;
+		private final String requestParameter;
+		private final boolean primitive;
+		private final boolean enumeration;
+
+		/**
+		 * Creates a new {@link Parameter}.
+		 *
+		 * @param type the parameter type, {@literal null} for {@link Object}.
+		 * @param name the parameter name.
+		 * @param requestParameter the name of the request parameter to bind or {@literal null} for path variables.
+		 */
+		Parameter(TypeMirror type, String name, String requestParameter) {
+
+			this.type = type == null ? Object.class.getName() : type.toString();
+			this.name = name;
+			this.requestParameter = requestParameter;
+			this.primitive = type != null && type.getKind().isPrimitive();
+			this.enumeration = type != null && ControllerLinksProcessor.isEnum(type);
+		}
+
+		String toStringExpression() {
+			return enumeration ? name + ".name()" : name;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import static org.springframework.util.StringUtils.*;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Resolves the base URI of the current request, i.e. its servlet mapping, once per request so that it can be shared by
+ * all components building links for the request.
+ *
+ * @author Oliver Gierke
+ */
+public final class BaseUris {
+
+	private static final String REQUEST_ATTRIBUTES_MISSING = "Could not find current request via RequestContextHolder. Is this being called from a Spring MVC handler?";
+	private static final String BASE_URI_ATTRIBUTE = BaseUris.class.getName().concat(".BASE_URI");
+
+	private BaseUris() {}
+
+	/**
+	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with scheme tweaked in case the
+	 * request contains an {@code X-Forwarded-Ssl} header, which is not (yet) supported by the underlying
+	 * {@link UriComponentsBuilder}. If no {@link RequestContextHolder} exists (you're outside a Spring Web call), fall
+	 * back to relative URIs. The base URI is only resolved once per request and cached as request attribute.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static UriComponentsBuilder getBuilder() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return UriComponentsBuilder.fromPath("/");
+		}
+
+		UriComponents baseUri = (UriComponents) attributes.getAttribute(BASE_URI_ATTRIBUTE,
+				RequestAttributes.SCOPE_REQUEST);
+
+		if (baseUri == null) {
+
+			baseUri = createBuilder(getCurrentRequest()).build();
+			attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return UriComponentsBuilder.newInstance().uriComponents(baseUri);
+	}
+
+	/**
+	 * Creates a {@link UriComponentsBuilder} for the servlet mapping of the given {@link HttpServletRequest} considering
+	 * an {@code X-Forwarded-Ssl} header.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	private static UriComponentsBuilder createBuilder(HttpServletRequest request) {
+
+		UriComponentsBuilder builder = ServletUriComponentsBuilder.fromServletMapping(request);
+
+		// special case handling for X-Forwarded-Ssl:
+		// apply it, but only if X-Forwarded-Proto is unset.
+
+		String forwardedSsl = request.getHeader("X-Forwarded-Ssl");
+		ForwardedHeader forwarded = ForwardedHeader.of(request.getHeader(ForwardedHeader.NAME));
+		String proto = hasText(forwarded.getProto()) ? forwarded.getProto() : request.getHeader("X-Forwarded-Proto");
+
+		if (!hasText(proto) && hasText(forwardedSsl) && forwardedSsl.equalsIgnoreCase("on")) {
+			builder.scheme("https");
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Copy of {@link ServletUriComponentsBuilder#getCurrentRequest()} until SPR-10110 gets fixed.
+	 *
+	 * @return
+	 */
+	@SuppressWarnings("null")
+	private static HttpServletRequest getCurrentRequest() {
+
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		Assert.state(requestAttributes != null, REQUEST_ATTRIBUTES_MISSING);
+		Assert.isInstanceOf(ServletRequestAttributes.class, requestAttributes);
+		HttpServletRequest servletRequest = ((ServletRequestAttributes) requestAttributes).getRequest();
+		Assert.state(servletRequest != null, "Could not find current HttpServletRequest");
+		return servletRequest;
+	}
+}
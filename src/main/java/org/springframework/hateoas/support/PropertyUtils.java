@@ -22,6 +22,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.hateoas.Resource;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -47,7 +49,9 @@ public class PropertyUtils {
 		add("class");
 		add("links");
 	}};
-	
+
+	private static final Map<Class<?>, List<String>> PROPERTIES_CACHE = new ConcurrentReferenceHashMap<>();
+
 	public static Map<String, Object> findProperties(Object object) {
 
 		if (object.getClass().equals(Resource.class)) {
@@ -79,6 +83,10 @@ public class PropertyUtils {
 	}
 
 	public static List<String> findProperties(Class<?> clazz) {
+		return PROPERTIES_CACHE.computeIfAbsent(clazz, it -> Collections.unmodifiableList(detectProperties(it)));
+	}
+
+	private static List<String> detectProperties(Class<?> clazz) {
 
 		return Arrays.asList(BeanUtils.getPropertyDescriptors(clazz)).stream()
 			.filter(descriptor -> !FIELDS_TO_IGNORE.contains(descriptor.getName()))
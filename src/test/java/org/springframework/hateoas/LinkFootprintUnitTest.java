@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measures the heap retained by a single {@link Link}, i.e. the objects reachable from it minus the {@link String}s and
+ * the objects shared with other links. Sizes are compared to the ones of the current JVM's layout only, so that the
+ * assertions hold independently of reference sizes and object alignment.
+ *
+ * @author Oliver Gierke
+ */
+public class LinkFootprintUnitTest {
+
+	private static final String HREF = "http://localhost:8080/people/4711";
+
+	@Test
+	public void linkWithoutOptionalAttributesRetainsNothingButItself() {
+
+		Link link = new Link(HREF, "foo");
+		long retained = retainedBy(link, ReflectionTestUtils.getField(link, "attributes"));
+
+		assertThat(retained).isLessThanOrEqualTo(instanceSize(Link.class));
+		assertThat(retained).isLessThan(instanceSize(DedicatedFieldsLink.class) + instanceSize(ArrayList.class));
+	}
+
+	@Test
+	public void linkWithOptionalAttributesRetainsSingleAttributesObject() throws Exception {
+
+		Link link = new Link(HREF, "foo").withTitle("title").withHreflang("en");
+		Class<?> attributesType = Class.forName(Link.class.getName() + "$Attributes");
+
+		assertThat(retainedBy(link, "title", "en")) //
+				.isLessThanOrEqualTo(instanceSize(Link.class) + instanceSize(attributesType));
+	}
+
+	private static long retainedBy(Link link, Object... shared) {
+
+		GraphLayout excluded = GraphLayout.parseInstance(link.getHref(), link.getRel(), link.getAffordances());
+
+		return GraphLayout.parseInstance(link).totalSize() - excluded.totalSize()
+				- GraphLayout.parseInstance(shared).totalSize();
+	}
+
+	private static long instanceSize(Class<?> type) {
+		return ClassLayout.parseClass(type).instanceSize();
+	}
+
+	/**
+	 * The layout of {@link Link} with a field per optional attribute and an affordance list per instance.
+	 */
+	@SuppressWarnings("unused")
+	private static class DedicatedFieldsLink {
+
+		String rel, href, hreflang, media, title, type, deprecation;
+		UriTemplate template;
+		List<Affordance> affordances = new ArrayList<>();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.util.SerializationUtils;
+
+/**
+ * Unit tests for {@link LinkRelation}.
+ *
+ * @author Oliver Gierke
+ */
+public class LinkRelationUnitTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullValue() {
+		LinkRelation.of(null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyValue() {
+		LinkRelation.of("");
+	}
+
+	@Test
+	public void internsRelations() {
+
+		LinkRelation relation = LinkRelation.of(new String("customer"));
+
+		assertThat(LinkRelation.of("customer")).isSameAs(relation);
+		assertThat(LinkRelation.of(Link.REL_SELF)).isSameAs(LinkRelation.SELF);
+		assertThat(relation.value()).isEqualTo("customer");
+		assertThat(relation.toString()).isEqualTo("customer");
+		assertThat(relation.hashCode()).isEqualTo("customer".hashCode());
+	}
+
+	@Test
+	public void detectsIanaRelations() {
+
+		assertThat(LinkRelation.SELF.isIanaRel()).isTrue();
+		assertThat(LinkRelation.of("customer").isIanaRel()).isFalse();
+	}
+
+	@Test
+	public void prefixesRelationWithCurie() {
+
+		LinkRelation relation = LinkRelation.of("customer");
+
+		assertThat(relation.getNamespacedValue("acme")).isEqualTo("acme:customer");
+		assertThat(relation.getNamespacedValue("acme")).isSameAs(relation.getNamespacedValue("acme"));
+		assertThat(relation.getNamespacedValue("other")).isEqualTo("other:customer");
+	}
+
+	@Test
+	public void doesNotPrefixIanaOrCuriedRelations() {
+
+		assertThat(LinkRelation.NEXT.getNamespacedValue("acme")).isEqualTo("next");
+		assertThat(LinkRelation.of("other:customer").isCuried()).isTrue();
+		assertThat(LinkRelation.of("other:customer").getNamespacedValue("acme")).isEqualTo("other:customer");
+	}
+
+	@Test
+	public void resolvesDeserializedInstanceToInternedOne() {
+
+		LinkRelation relation = LinkRelation.of("customer");
+
+		assertThat(SerializationUtils.deserialize(SerializationUtils.serialize(relation))).isSameAs(relation);
+	}
+
+	@Test
+	public void linksShareInternedRelation() {
+
+		Link link = new Link("/customers/1", new String("customer"));
+
+		assertThat(link.getRel()).isSameAs(LinkRelation.of("customer").value());
+		assertThat(link.getRelation()).isSameAs(LinkRelation.of("customer"));
+		assertThat(link.hasRel(LinkRelation.of("customer"))).isTrue();
+		assertThat(link.withRel(LinkRelation.NEXT).hasRel(LinkRelation.NEXT)).isTrue();
+	}
+}
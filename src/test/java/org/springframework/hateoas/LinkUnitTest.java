@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.util.AbstractList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.io.output.ByteArrayOutputStream;
@@ -26,6 +28,7 @@ import org.junit.Test;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit tests for {@link Link}.
@@ -115,7 +118,8 @@ public class LinkUnitTest {
 	public void parsesRFC5988HeaderIntoLink() {
 
 		assertThat(Link.valueOf("</something>;rel=\"foo\"")).isEqualTo(new Link("/something", "foo"));
-		assertThat(Link.valueOf("</something>;rel=\"foo\";title=\"Some title\"")).isEqualTo(new Link("/something", "foo"));
+		assertThat(Link.valueOf("</something>;rel=\"foo\";title=\"Some title\""))
+				.isEqualTo(new Link("/something", "foo").withTitle("Some title"));
 		assertThat(Link.valueOf("</customer/1>;" //
 				+ "rel=\"self\";" //
 				+ "hreflang=\"en\";" //
@@ -157,6 +161,44 @@ public class LinkUnitTest {
 		Link.valueOf("foo");
 	}
 
+	@Test
+	public void parsesQuotedStringsContainingSeparators() {
+
+		Link link = Link.valueOf("</something>; rel=\"foo\"; title=\"Foo, bar; \\\"baz\\\"\"");
+
+		assertThat(link.getRel()).isEqualTo("foo");
+		assertThat(link.getTitle()).isEqualTo("Foo, bar; \"baz\"");
+	}
+
+	@Test
+	public void parsesTokenParameterValuesAndCaseInsensitiveNames() {
+
+		Link link = Link.valueOf("</something> ; REL=next ; Hreflang=en");
+
+		assertThat(link).isEqualTo(new Link("/something", "next").withHreflang("en"));
+	}
+
+	@Test
+	public void usesFirstOccurrenceOfParameter() {
+		assertThat(Link.valueOf("</something>;rel=\"foo\";rel=\"bar\"").getRel()).isEqualTo("foo");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnterminatedQuotedString() {
+		Link.valueOf("</something>;rel=\"foo");
+	}
+
+	@Test
+	public void appendsHeaderRepresentationToGivenBuilder() {
+
+		Link link = new Link("/something", "foo").withTitle("Some \"title\"");
+		StringBuilder builder = new StringBuilder("Link: ");
+
+		assertThat(link.appendTo(builder)).isSameAs(builder);
+		assertThat(builder.toString()).isEqualTo("Link: </something>;rel=\"foo\";title=\"Some \\\"title\\\"\"");
+		assertThat(Link.valueOf(link.toString())).isEqualTo(link);
+	}
+
 	/**
 	 * @see #137
 	 */
@@ -239,10 +281,9 @@ public class LinkUnitTest {
 		assertThat(linkWithAffordance.getAffordances()).hasSize(1);
 		assertThat(linkWithTwoAffordances.getAffordances()).hasSize(2);
 
-		assertThat(originalLink.hashCode()).isNotEqualTo(linkWithAffordance.hashCode());
-		assertThat(originalLink).isNotEqualTo(linkWithAffordance);
+		// Affordances are not part of the hash code, so that lazily calculated ones don't have to be resolved
 
-		assertThat(linkWithAffordance.hashCode()).isNotEqualTo(linkWithTwoAffordances.hashCode());
+		assertThat(originalLink).isNotEqualTo(linkWithAffordance);
 		assertThat(linkWithAffordance).isNotEqualTo(linkWithTwoAffordances);
 	}
 
@@ -270,6 +311,126 @@ public class LinkUnitTest {
 		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> link.hasRel(""));
 	}
 
+	@Test
+	public void sharesEmptyAffordancesBetweenLinks() {
+
+		Link first = new Link("/foo");
+		Link second = new Link("/bar", "bar").withTitle("title");
+
+		assertThat(first.getAffordances()).isEmpty();
+		assertThat(first.getAffordances()).isSameAs(second.getAffordances());
+		assertThatExceptionOfType(UnsupportedOperationException.class) //
+				.isThrownBy(() -> first.getAffordances().add(new TestAffordance()));
+	}
+
+	@Test
+	public void calculatesHashCodeWithoutResolvingAffordances() {
+
+		List<Affordance> affordances = new AbstractList<Affordance>() {
+
+			@Override
+			public Affordance get(int index) {
+				throw new IllegalStateException();
+			}
+
+			@Override
+			public int size() {
+				throw new IllegalStateException();
+			}
+		};
+
+		Link link = new Link("/foo", "foo", affordances);
+
+		assertThat(link.hashCode()).isEqualTo(new Link("/foo", "foo").hashCode());
+		assertThat(link.hashCode()).isEqualTo(link.hashCode());
+	}
+
+	@Test
+	public void linksWithDifferentAffordancesAreNotEqual() {
+
+		Link link = new Link("/foo");
+
+		assertThat(link.andAffordance(new TestAffordance())).isNotEqualTo(link);
+		assertThat(link.andAffordance(new TestAffordance()).andAffordances(Collections.emptyList()).getAffordances())
+				.hasSize(1);
+	}
+
+	@Test
+	public void keepsNonTemplatedHrefWithoutCompilingTemplate() {
+
+		Link link = new Link("/foo?bar=baz", "foo");
+
+		assertThat(link.getHref()).isEqualTo("/foo?bar=baz");
+		assertThat(link.isTemplated()).isFalse();
+		assertThat(link.getVariables()).isEmpty();
+		assertThat(link.getVariableNames()).isEmpty();
+		assertThat(ReflectionTestUtils.getField(link, "template")).isNull();
+	}
+
+	@Test
+	public void sharesTemplateBetweenLinksWithTheSameTemplatedHref() {
+
+		Link first = new Link("/foo/{id}", "foo");
+		Link second = new Link("/foo/{id}", "bar");
+
+		assertThat(first.isTemplated()).isTrue();
+		assertThat(ReflectionTestUtils.getField(first, "template")) //
+				.isSameAs(ReflectionTestUtils.getField(second, "template"));
+		assertThat(first.expand(4711).getHref()).isEqualTo("/foo/4711");
+	}
+
+	@Test
+	public void compilesTemplateLazilyForDeserializedLinks() {
+
+		Link link = new Link();
+		ReflectionTestUtils.setField(link, "href", "/foo{?page}");
+		ReflectionTestUtils.setField(link, "rel", "foo");
+
+		assertThat(link.isTemplated()).isTrue();
+		assertThat(link.getVariableNames()).containsExactly("page");
+	}
+
+	@Test
+	public void sharesOptionalAttributesBetweenLinksWithoutAny() {
+
+		Link first = new Link("/foo", "foo");
+		Link second = new Link("/bar", "bar").withTitle("title").withTitle(null);
+
+		assertThat(second.getTitle()).isNull();
+		assertThat(ReflectionTestUtils.getField(first, "attributes")) //
+				.isSameAs(ReflectionTestUtils.getField(second, "attributes"));
+	}
+
+	@Test
+	public void populatesOptionalAttributesOfDeserializedLinks() {
+
+		Link link = new Link();
+		ReflectionTestUtils.invokeSetterMethod(link, "title", "title");
+		ReflectionTestUtils.invokeSetterMethod(link, "type", "type");
+
+		assertThat(link.getTitle()).isEqualTo("title");
+		assertThat(link.getType()).isEqualTo("type");
+		assertThat(link.getHreflang()).isNull();
+	}
+
+	@Test
+	public void returnsSameInstanceIfAttributeIsUnchanged() {
+
+		Link link = new Link("/foo", "foo").withTitle("title");
+
+		assertThat(link.withTitle("title")).isSameAs(link);
+		assertThat(link.withHreflang(null)).isSameAs(link);
+		assertThat(link.withRel(link.getRel())).isSameAs(link);
+	}
+
+	@Test
+	public void compilesTemplateOfChangedHref() {
+
+		Link link = new Link("/foo{?bar}", "foo").withHref("/foo{?baz}");
+
+		assertThat(link.getVariableNames()).containsExactly("baz");
+	}
+
 	static class TestAffordance implements Affordance {
 
 		/* 
@@ -102,4 +102,33 @@ public class LinksUnitTest {
 	public void parsesLinksWithWhitespace() {
 		assertThat(Links.valueOf(WITH_WHITESPACE)).isEqualTo(reference);
 	}
+
+	@Test
+	public void skipsElementsThatAreNotLinks() {
+		assertThat(Links.valueOf("foo, " + FIRST + ", bar;baz=\"<,>\", " + SECOND)).isEqualTo(reference);
+	}
+
+	@Test
+	public void skipsLinksWithoutRel() {
+		assertThat(Links.valueOf("</foo>, </bar>;rel=\"\", " + FIRST + ", " + SECOND)).isEqualTo(reference);
+	}
+
+	@Test
+	public void parsesLinksWithQuotedCommas() {
+
+		Links links = Links.valueOf("</something>;rel=\"foo\";title=\"foo, bar\"," + SECOND);
+
+		assertThat(links.getLink("foo")).hasValue(new Link("/something", "foo").withTitle("foo, bar"));
+		assertThat(links.getLink("bar")).hasValue(new Link("/somethingElse", "bar"));
+	}
+
+	@Test
+	public void appendsLinksToGivenBuilder() {
+
+		StringBuilder builder = new StringBuilder();
+
+		assertThat(reference2.appendTo(builder)).isSameAs(builder);
+		assertThat(builder.toString()).isEqualTo(LINKS2);
+		assertThat(Links.valueOf(builder.toString())).isEqualTo(reference2);
+	}
 }
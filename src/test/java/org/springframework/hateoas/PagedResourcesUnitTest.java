@@ -17,7 +17,10 @@ package org.springframework.hateoas;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -102,4 +105,27 @@ public class PagedResourcesUnitTest {
 	public void calculatesTotalPagesCorrectly() {
 		assertThat(new PageMetadata(5, 0, 16).getTotalPages()).isEqualTo(4L);
 	}
+
+	@Test
+	public void adoptsContentWithoutCopying() {
+
+		List<String> content = new ArrayList<>(Arrays.asList("foo"));
+		PagedResources<String> resources = PagedResources.adopt(content, metadata);
+
+		content.add("bar");
+
+		assertThat(resources.getContent()).containsExactly("foo", "bar");
+		assertThat(resources.getMetadata()).isEqualTo(metadata);
+	}
+
+	@Test
+	public void convertsElementsOfMappedContentOnIteration() {
+
+		PagedResources<Resource<String>> resources = PagedResources.mapped(Arrays.asList("foo", "bar"),
+				it -> new Resource<>(it), metadata, new Link("/foo", Link.REL_NEXT));
+
+		assertThat(resources).extracting(Resource::getContent).containsExactly("foo", "bar");
+		assertThat(resources.getNextLink()).isPresent();
+		assertThat(resources.getMetadata()).isEqualTo(metadata);
+	}
 }
@@ -18,6 +18,8 @@ package org.springframework.hateoas;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
@@ -173,4 +175,79 @@ public class ResourceSupportUnitTest {
 		assertThat(support.hasLink("self")).isTrue();
 		assertThat(support.hasLink("another")).isTrue();
 	}
+
+	@Test
+	public void groupsLinksByRelInOrderOfFirstOccurrence() {
+
+		Link first = new Link("/first", "foo");
+		Link second = new Link("/second", "bar");
+		Link third = new Link("/third", "foo");
+
+		ResourceSupport support = new ResourceSupport();
+		support.add(first, second, third);
+
+		assertThat(support.getLinks()).containsExactly(first, second, third);
+		assertThat(support.getLinksByRel()).containsOnlyKeys("foo", "bar");
+		assertThat(support.getLinksByRel().keySet()).containsExactly("foo", "bar");
+		assertThat(support.getLinksByRel().get("foo")).containsExactly(first, third);
+		assertThat(support.getLink("foo")).hasValue(first);
+		assertThat(support.getLinks("foo")).containsExactly(first, third);
+	}
+
+	@Test
+	public void keepsRelLookupsUpToDateWhenLinksAreModified() {
+
+		Link first = new Link("/first", "foo");
+		Link second = new Link("/second", "bar");
+
+		ResourceSupport support = new ResourceSupport();
+		support.add(first);
+
+		assertThat(support.hasLink("foo")).isTrue();
+
+		support.getLinks().add(second);
+		assertThat(support.getLink("bar")).hasValue(second);
+
+		support.getLinks().remove(first);
+		assertThat(support.hasLink("foo")).isFalse();
+		assertThat(support.getLinksByRel()).containsOnlyKeys("bar");
+
+		support.getLinks().set(0, first);
+		assertThat(support.hasLink("bar")).isFalse();
+		assertThat(support.getLink("foo")).hasValue(first);
+
+		support.removeLinks();
+		assertThat(support.hasLink("foo")).isFalse();
+		assertThat(support.getLinksByRel()).isEmpty();
+	}
+
+	@Test
+	public void indexesLinksWhenTheyAreAdded() {
+
+		ResourceSupport support = new ResourceSupport();
+		Map<String, List<Link>> linksByRel = support.getLinksByRel();
+
+		support.add(new Link("/foo", "foo"));
+
+		assertThat(linksByRel).containsOnlyKeys("foo");
+		assertThat(support.getLinksByRel()).isSameAs(linksByRel);
+	}
+
+	@Test
+	public void doesNotExposeInternalGroupingForModification() {
+
+		ResourceSupport support = new ResourceSupport();
+		support.add(new Link("/foo", "foo"));
+
+		support.getLinks("foo").clear();
+
+		assertThat(support.hasLink("foo")).isTrue();
+		assertThatExceptionOfType(UnsupportedOperationException.class) //
+				.isThrownBy(() -> support.getLinksByRel().get("foo").clear());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullLinkAddedToLinkList() {
+		new ResourceSupport().getLinks().add(null);
+	}
 }
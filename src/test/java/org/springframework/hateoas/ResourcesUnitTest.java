@@ -17,10 +17,16 @@ package org.springframework.hateoas;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit tests for {@link Resources}.
@@ -69,4 +75,105 @@ public class ResourcesUnitTest {
 		assertThat(left).isNotEqualTo(right);
 		assertThat(right).isNotEqualTo(left);
 	}
+
+	@Test
+	public void adoptsContentWithoutCopying() {
+
+		List<Resource<String>> content = new ArrayList<>(foo);
+		Resources<Resource<String>> resources = Resources.adopt(content, new Link("/foo"));
+
+		content.addAll(bar);
+
+		assertThat(resources.getContent()).hasSize(2);
+		assertThat(resources.hasLink(Link.REL_SELF)).isTrue();
+		assertThat(resources).isEqualTo(new Resources<>(content, new Link("/foo")));
+	}
+
+	@Test
+	public void copiesContentHandedToConstructor() {
+
+		List<Resource<String>> content = new ArrayList<>(foo);
+		Resources<Resource<String>> resources = new Resources<>(content);
+
+		content.addAll(bar);
+
+		assertThat(resources.getContent()).hasSize(1);
+	}
+
+	@Test
+	public void exposesSameUnmodifiableContentView() {
+
+		Resources<Resource<String>> resources = new Resources<>(foo);
+
+		assertThat(resources.getContent()).isSameAs(resources.getContent());
+		assertThat(resources.getContent()).containsExactlyElementsOf(foo);
+		assertThatExceptionOfType(UnsupportedOperationException.class) //
+				.isThrownBy(() -> resources.getContent().clear());
+	}
+
+	@Test
+	public void contentViewReflectsReplacedContent() {
+
+		Resources<Resource<String>> resources = new Resources<>(foo);
+		Collection<Resource<String>> view = resources.getContent();
+
+		ReflectionTestUtils.setField(resources, "content", new ArrayList<>(bar));
+
+		assertThat(view).containsExactlyElementsOf(bar);
+	}
+
+	@Test
+	public void convertsElementsOfMappedContentOnIteration() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		ResourceAssembler<String, Resource<String>> assembler = it -> {
+			invocations.incrementAndGet();
+			return new Resource<>(it);
+		};
+
+		Resources<Resource<String>> resources = Resources.mapped(Arrays.asList("foo", "bar"), assembler);
+
+		assertThat(invocations.get()).isEqualTo(0);
+		assertThat(resources.getContent()).hasSize(2);
+		assertThat(resources).extracting(Resource::getContent).containsExactly("foo", "bar");
+		assertThat(invocations.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void comparesConvertedElementsOfMappedContent() {
+
+		ResourceAssembler<String, Resource<String>> assembler = Resource::new;
+
+		Resources<Resource<String>> left = Resources.mapped(Arrays.asList("foo", "bar"), assembler);
+		Resources<Resource<String>> right = Resources.mapped(Arrays.asList("foo", "bar"), assembler);
+		Resources<Resource<String>> copy = new Resources<>(Arrays.asList(new Resource<>("foo"), new Resource<>("bar")));
+
+		assertThat(left).isEqualTo(right);
+		assertThat(left.hashCode()).isEqualTo(right.hashCode());
+		assertThat(left).isEqualTo(copy);
+		assertThat(copy).isEqualTo(left);
+		assertThat(left.hashCode()).isEqualTo(copy.hashCode());
+		assertThat(left).isNotEqualTo(Resources.mapped(Arrays.asList("foo"), assembler));
+	}
+
+	@Test
+	public void doesNotConvertElementsOfMappedContentForToString() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		ResourceAssembler<String, Resource<String>> assembler = it -> {
+			invocations.incrementAndGet();
+			return new Resource<>(it);
+		};
+
+		assertThat(Resources.mapped(Arrays.asList("foo", "bar"), assembler).toString()).contains("foo", "bar");
+		assertThat(invocations.get()).isEqualTo(0);
+	}
+
+	@Test
+	public void wrapsContentIntoResources() {
+
+		Resources<Resource<String>> resources = Resources.wrap(Arrays.asList("foo", "bar"));
+
+		assertThat(resources).extracting(Resource::getContent).containsExactly("foo", "bar");
+	}
 }
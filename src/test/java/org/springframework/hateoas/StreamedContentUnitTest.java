@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StreamedContent}.
+ *
+ * @author Oliver Gierke
+ */
+public class StreamedContentUnitTest {
+
+	@Test
+	public void iteratesElementsOnlyOnce() {
+
+		StreamedContent<String> content = StreamedContent.of(Stream.of("foo", "bar"));
+
+		assertThat(content.iterator()).containsExactly("foo", "bar");
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> content.iterator());
+	}
+
+	@Test
+	public void closesStreamOnceAllElementsWereRead() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		StreamedContent<String> content = StreamedContent.of(Stream.of("foo").onClose(() -> closed.set(true)));
+		Iterator<String> iterator = content.iterator();
+
+		assertThat(iterator.next()).isEqualTo("foo");
+		assertThat(closed.get()).isFalse();
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(closed.get()).isTrue();
+	}
+
+	@Test
+	public void closesEmptyStreamWhenCheckedForElements() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		StreamedContent<Object> content = StreamedContent.of(Stream.empty().onClose(() -> closed.set(true)));
+
+		assertThat(content.isEmpty()).isTrue();
+		assertThat(closed.get()).isTrue();
+	}
+
+	@Test
+	public void stopsReadingElementsOnceClosed() {
+
+		StreamedContent<String> content = StreamedContent.of(Stream.of("foo", "bar"));
+		Iterator<String> iterator = content.iterator();
+
+		assertThat(iterator.next()).isEqualTo("foo");
+
+		content.close();
+
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	public void closesAutoCloseableIterator() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		CloseableIterator iterator = new CloseableIterator(Arrays.asList("foo").iterator(), closed);
+
+		assertThat(StreamedContent.of(iterator).iterator()).containsExactly("foo");
+		assertThat(closed.get()).isTrue();
+	}
+
+	@Test
+	public void peeksFirstElementWithoutConsumingIt() {
+
+		StreamedContent<String> content = StreamedContent.of(Stream.of("foo", "bar"));
+
+		assertThat(content.peek()).isEqualTo("foo");
+		assertThat(content.peek()).isEqualTo("foo");
+		assertThat(content.isEmpty()).isFalse();
+		assertThat(content.iterator()).containsExactly("foo", "bar");
+	}
+
+	@Test
+	public void readsElementsIntoMemoryToDetermineSize() {
+
+		StreamedContent<String> content = StreamedContent.of(Stream.of("foo", "bar"));
+
+		assertThat(content.size()).isEqualTo(2);
+		assertThat(content).containsExactly("foo", "bar");
+		assertThat(content).containsExactly("foo", "bar");
+	}
+
+	@Test
+	public void mapsElementsWhenRead() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		StreamedContent<String> content = StreamedContent.of(Stream.of("foo", "bar")).withRel("strings");
+		StreamedContent<String> mapped = content.map(it -> {
+			invocations.incrementAndGet();
+			return it.toUpperCase();
+		});
+
+		assertThat(invocations.get()).isEqualTo(0);
+		assertThat(mapped.peek()).isEqualTo("FOO");
+		assertThat(invocations.get()).isEqualTo(1);
+		assertThat(mapped.iterator()).containsExactly("FOO", "BAR");
+		assertThat(mapped.getRel()).isEqualTo("strings");
+	}
+
+	@Test
+	public void rejectsDeclaringRelAfterElementsWereRead() {
+
+		StreamedContent<String> content = StreamedContent.of(Stream.of("foo"));
+		content.peek();
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> content.withRel("strings"));
+	}
+
+	@Test
+	public void isExposedAsIsByResources() {
+
+		StreamedContent<String> content = StreamedContent.of(Stream.of("foo"));
+
+		assertThat(Resources.adopt(content).getContent()).isSameAs(content);
+	}
+
+	private static class CloseableIterator implements Iterator<String>, AutoCloseable {
+
+		private final Iterator<String> delegate;
+		private final AtomicBoolean closed;
+
+		CloseableIterator(Iterator<String> delegate, AtomicBoolean closed) {
+
+			this.delegate = delegate;
+			this.closed = closed;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public String next() {
+			return delegate.next();
+		}
+
+		@Override
+		public void close() {
+			closed.set(true);
+		}
+	}
+}
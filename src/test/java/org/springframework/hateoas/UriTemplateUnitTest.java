@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -261,6 +262,117 @@ public class UriTemplateUnitTest {
 		assertThat(template.toString()).isEqualTo("/{?q}");
 	}
 
+	@Test
+	public void keepsModifiersOfExistingVariablesWhenAddingTemplateVariables() {
+
+		UriTemplate template = new UriTemplate("/foo{?ids*}").with("bar", VariableType.REQUEST_PARAM);
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("ids", Arrays.asList(1, 2));
+		parameters.put("bar", "baz");
+
+		assertThat(template.toString()).isEqualTo("/foo{?ids*,bar}");
+		assertThat(template.expand(parameters).toString()).isEqualTo("/foo?ids=1&ids=2&bar=baz");
+		assertThat(new UriTemplate("/foo{?q:3}").with("page", VariableType.REQUEST_PARAM).expand("value", 1).toString())
+				.isEqualTo("/foo?q=val&page=1");
+	}
+
+	@Test
+	public void expandsLevelFourOperators() {
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("var", "value");
+		parameters.put("hello", "Hello World!");
+		parameters.put("path", "/foo/bar");
+		parameters.put("list", Arrays.asList("red", "green", "blue"));
+		parameters.put("empty", "");
+
+		Map<String, String> keys = new LinkedHashMap<>();
+		keys.put("semi", ";");
+		keys.put("dot", ".");
+		parameters.put("keys", keys);
+
+		assertExpansion("{hello}", parameters, "Hello%20World%21");
+		assertExpansion("{+path}/here", parameters, "/foo/bar/here");
+		assertExpansion("{#hello}", parameters, "#Hello%20World!");
+		assertExpansion("X{.list*}", parameters, "X.red.green.blue");
+		assertExpansion("{/list*,path:4}", parameters, "/red/green/blue/%2Ffoo");
+		assertExpansion("{;list*}", parameters, ";list=red;list=green;list=blue");
+		assertExpansion("{;var,empty}", parameters, ";var=value;empty");
+		assertExpansion("{?var:3,empty}", parameters, "?var=val&empty=");
+		assertExpansion("{?keys*}", parameters, "?semi=%3B&dot=.");
+		assertExpansion("{?keys}", parameters, "?keys=semi,%3B,dot,.");
+		assertExpansion("/foo?fixed=yes{&list*}", parameters, "/foo?fixed=yes&list=red&list=green&list=blue");
+	}
+
+	@Test
+	public void encodesReservedCharactersForSimpleExpansionOnly() {
+
+		assertThat(new UriTemplate("/foo/{p}").expand("a/b:c@d").toString()).isEqualTo("/foo/a%2Fb%3Ac%40d");
+		assertThat(new UriTemplate("/foo/{+p}").expand("a/b:c@d").toString()).isEqualTo("/foo/a/b:c@d");
+	}
+
+	@Test
+	public void discoversVariablesOfAllOperators() {
+
+		UriTemplate template = new UriTemplate("{+base}{.format}{;matrix}{/path*}{?query:3}");
+
+		assertVariables(template, new TemplateVariable("base", VariableType.RESERVED_STRING),
+				new TemplateVariable("format", VariableType.DOT),
+				new TemplateVariable("matrix", VariableType.PATH_STYLE_PARAMETER),
+				new TemplateVariable("path", VariableType.SEGMENT), new TemplateVariable("query", VariableType.REQUEST_PARAM));
+	}
+
+	@Test
+	public void continuesExistingQueryWhenExpandingRequestParameters() {
+
+		UriTemplate template = new UriTemplate("/foo?bar=1{?page}");
+
+		assertThat(template.toString()).isEqualTo("/foo?bar=1{&page}");
+		assertThat(template.expand(2).toString()).isEqualTo("/foo?bar=1&page=2");
+	}
+
+	@Test
+	public void keepsLiteralsFollowingOptionalVariables() {
+		assertThat(new UriTemplate("/foo{/bar}/baz").expand("path").toString()).isEqualTo("/foo/path/baz");
+	}
+
+	@Test
+	public void appliesPositionalParametersInOrderOfVariables() {
+		assertThat(new UriTemplate("/foo/{id}{?page}").expand(1, 2).toString()).isEqualTo("/foo/1?page=2");
+	}
+
+	@Test
+	public void treatsInvalidExpressionsAsLiterals() {
+
+		UriTemplate template = new UriTemplate("/foo/{id:\\d+}");
+
+		assertThat(template.getVariables()).isEmpty();
+		assertThat(UriTemplate.isTemplate("/foo/{bar baz}")).isFalse();
+	}
+
+	@Test
+	public void sharesCompiledTemplates() {
+
+		UriTemplate template = UriTemplate.of("/foo/{bar}{?page}");
+
+		assertThat(UriTemplate.of("/foo/{bar}{?page}")).isSameAs(template);
+		assertThat(template.getVariableNames()).containsExactly("bar", "page");
+	}
+
+	@Test
+	public void doesNotShareNonTemplatedUris() {
+
+		UriTemplate template = UriTemplate.of("/foo");
+
+		assertThat(UriTemplate.of("/foo")).isNotSameAs(template);
+		assertThat(template.getVariables()).isEmpty();
+	}
+
+	private static void assertExpansion(String template, Map<String, Object> parameters, String expected) {
+		assertThat(new UriTemplate(template).expand(parameters).toString()).isEqualTo(expected);
+	}
+
 	private static void assertVariables(UriTemplate template, TemplateVariable... variables) {
 		assertVariables(template, Arrays.asList(variables));
 	}
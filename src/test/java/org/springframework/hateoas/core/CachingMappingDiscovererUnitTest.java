@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link CachingMappingDiscoverer}.
+ *
+ * @author Oliver Gierke
+ */
+public class CachingMappingDiscovererUnitTest {
+
+	MappingDiscoverer delegate = spy(new AnnotationMappingDiscoverer(RequestMapping.class));
+	CachingMappingDiscoverer discoverer = CachingMappingDiscoverer.of(delegate);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullDelegate() {
+		CachingMappingDiscoverer.of(null);
+	}
+
+	@Test
+	public void resolvesMethodMappingOnlyOnce() throws Exception {
+
+		Method method = MyController.class.getMethod("method");
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(discoverer.getMapping(MyController.class, method)).isEqualTo("/type/method");
+			assertThat(discoverer.getMappingAsUriTemplate(MyController.class, method).getVariableNames()).isEmpty();
+			assertThat(discoverer.getRequestMethod(MyController.class, method)).containsExactly(HttpMethod.GET);
+		}
+
+		verify(delegate, times(1)).getMapping(MyController.class, method);
+		verify(delegate, times(1)).getRequestMethod(MyController.class, method);
+	}
+
+	@Test
+	public void cachesAbsentTypeMapping() {
+
+		assertThat(discoverer.getMapping(ControllerWithoutTypeLevelMapping.class)).isNull();
+		assertThat(discoverer.getMapping(ControllerWithoutTypeLevelMapping.class)).isNull();
+
+		verify(delegate, times(1)).getMapping(ControllerWithoutTypeLevelMapping.class);
+	}
+
+	@Test
+	public void exposesTemplateForMethodMapping() throws Exception {
+
+		Method method = MyController.class.getMethod("withVariable", String.class);
+
+		assertThat(discoverer.getMappingAsUriTemplate(MyController.class, method).getVariableNames())
+				.containsExactly("id");
+	}
+
+	@Test
+	public void returnsNoRequestMethodsForUnmappedMethod() throws Exception {
+
+		Method method = ControllerWithoutTypeLevelMapping.class.getMethod("unmapped");
+
+		assertThat(discoverer.getMapping(ControllerWithoutTypeLevelMapping.class, method)).isNull();
+		assertThat(discoverer.getMappingAsUriTemplate(ControllerWithoutTypeLevelMapping.class, method)).isNull();
+		assertThat(discoverer.getRequestMethod(ControllerWithoutTypeLevelMapping.class, method)).isEmpty();
+	}
+
+	@RequestMapping("/type")
+	interface MyController {
+
+		@GetMapping("/method")
+		void method();
+
+		@GetMapping("/{id}")
+		void withVariable(String id);
+	}
+
+	interface ControllerWithoutTypeLevelMapping {
+
+		void unmapped();
+	}
+}
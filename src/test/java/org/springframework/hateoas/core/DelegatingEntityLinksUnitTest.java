@@ -78,6 +78,18 @@ public class DelegatingEntityLinksUnitTest extends TestUtils {
 		verify(target, times(1)).linkFor(String.class);
 	}
 
+	@Test
+	public void looksUpDelegateOnlyOnce() {
+
+		EntityLinks links = createDelegatingEntityLinks();
+
+		links.linkFor(String.class);
+		links.linkToCollectionResource(String.class);
+
+		assertThat(links.supports(String.class)).isTrue();
+		verify(target, times(1)).supports(String.class);
+	}
+
 	private EntityLinks createDelegatingEntityLinks() {
 		return new DelegatingEntityLinks(SimplePluginRegistry.create(Arrays.asList(target)));
 	}
@@ -16,6 +16,7 @@
 package org.springframework.hateoas.core;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
@@ -49,6 +50,36 @@ public class DelegatingRelProviderUnitTest {
 		assertThat(delegatingProvider.getCollectionResourceRelFor(String.class)).isEqualTo("stringList");
 	}
 
+	@Test
+	public void resolvesProviderAndRelsOnlyOnce() {
+
+		RelProvider provider = spy(new DefaultRelProvider());
+		RelProvider delegatingProvider = new DelegatingRelProvider(OrderAwarePluginRegistry.create(Arrays.asList(provider)));
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(delegatingProvider.getItemResourceRelFor(String.class)).isEqualTo("string");
+			assertThat(delegatingProvider.getCollectionResourceRelFor(String.class)).isEqualTo("stringList");
+		}
+
+		verify(provider, times(1)).supports(String.class);
+		verify(provider, times(1)).getItemResourceRelFor(String.class);
+		verify(provider, times(1)).getCollectionResourceRelFor(String.class);
+	}
+
+	@Test
+	public void cachesAbsentRelation() {
+
+		List<RelProvider> providers = Arrays.asList(new AnnotationRelProvider(), new DefaultRelProvider());
+		RelProvider delegatingProvider = new DelegatingRelProvider(OrderAwarePluginRegistry.create(providers));
+
+		assertThat(delegatingProvider.getItemResourceRelFor(WithoutCollectionRel.class)).isEqualTo("item");
+		assertThat(delegatingProvider.getCollectionResourceRelFor(WithoutCollectionRel.class)).isNull();
+		assertThat(delegatingProvider.getCollectionResourceRelFor(WithoutCollectionRel.class)).isNull();
+	}
+
+	@Relation("item")
+	static class WithoutCollectionRel {}
+
 	@Relation(value = "foo", collectionRelation = "bar")
 	static class Sample {
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Unit tests for {@link EncodingUtils}.
+ *
+ * @author Oliver Gierke
+ */
+public class EncodingUtilsUnitTest {
+
+	static final String[] SOURCES = { "", "4711", "some-slug_1.0~", "foo bar", "foo/bar", "a=b&c=d", "?#[]", "47:11@",
+			"!$&'()*+,;=", "%20", "ümlaut", "日本", "😀", "tab\tnewline\n", "\"<>\\^`{|}" };
+
+	@Test
+	public void returnsSourceAsIsIfNothingNeedsToBeEncoded() {
+
+		String source = "some-slug_1.0~";
+
+		assertThat(EncodingUtils.encodePath(source)).isSameAs(source);
+		assertThat(EncodingUtils.encodeParameter(source)).isSameAs(source);
+		assertThat(EncodingUtils.encodeFragment(source)).isSameAs(source);
+	}
+
+	@Test
+	public void encodesLikeUriUtils() throws Exception {
+
+		for (String source : SOURCES) {
+
+			assertThat(EncodingUtils.encodePath(source)).isEqualTo(UriUtils.encodePath(source, "UTF-8"));
+			assertThat(EncodingUtils.encodeParameter(source)).isEqualTo(UriUtils.encodeQueryParam(source, "UTF-8"));
+			assertThat(EncodingUtils.encodeFragment(source)).isEqualTo(UriUtils.encodeFragment(source, "UTF-8"));
+		}
+
+		for (char c = 0; c < 256; c++) {
+
+			String source = String.valueOf(c);
+
+			assertThat(EncodingUtils.encodePath(source)).isEqualTo(UriUtils.encodePath(source, "UTF-8"));
+			assertThat(EncodingUtils.encodeParameter(source)).isEqualTo(UriUtils.encodeQueryParam(source, "UTF-8"));
+			assertThat(EncodingUtils.encodeFragment(source)).isEqualTo(UriUtils.encodeFragment(source, "UTF-8"));
+		}
+	}
+
+	@Test
+	public void encodesToStringOfNonStringValues() {
+		assertThat(EncodingUtils.encodePath(47.11)).isEqualTo("47.11");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullSource() {
+		EncodingUtils.encodePath(null);
+	}
+}
@@ -65,12 +65,42 @@ public class LinkBuilderSupportUnitTest extends TestUtils {
 		assertThat(builder.toString()).endsWith("47:11");
 	}
 
+	@Test
+	public void appendsSegmentsInFrontOfQueryAndFragment() {
+
+		SampleLinkBuilder builder = new SampleLinkBuilder(
+				UriComponentsBuilder.fromUriString("http://localhost/foo/?bar=baz#fragment"));
+
+		assertThat(builder.slash("a b").slash("c").toString()).isEqualTo("http://localhost/foo/a%20b/c?bar=baz#fragment");
+		assertThat(builder.slash("a#other").toString()).isEqualTo("http://localhost/foo/a?bar=baz#other");
+	}
+
+	@Test
+	public void mergesQueryOfAppendedPath() {
+
+		SampleLinkBuilder builder = new SampleLinkBuilder(UriComponentsBuilder.fromUriString("http://localhost/foo?bar=baz"));
+
+		assertThat(builder.slash("a?qux=quux").toString()).isEqualTo("http://localhost/foo/a?bar=baz&qux=quux");
+	}
+
+	@Test
+	public void createsUriFromAppendedSegments() {
+
+		SampleLinkBuilder builder = new SampleLinkBuilder(UriComponentsBuilder.fromUriString("http://localhost"));
+
+		assertThat(builder.slash("foo").slash(" bar /baz/").toUri().toString()).isEqualTo("http://localhost/foo/bar/baz");
+	}
+
 	static class SampleLinkBuilder extends LinkBuilderSupport<SampleLinkBuilder> {
 
 		public SampleLinkBuilder(UriComponentsBuilder builder) {
 			super(builder);
 		}
 
+		public SampleLinkBuilder(String uri) {
+			super(uri);
+		}
+
 		@Override
 		protected SampleLinkBuilder getThis() {
 			return this;
@@ -80,5 +110,10 @@ public class LinkBuilderSupportUnitTest extends TestUtils {
 		protected SampleLinkBuilder createNewInstance(UriComponentsBuilder builder) {
 			return new SampleLinkBuilder(builder);
 		}
+
+		@Override
+		protected SampleLinkBuilder createNewInstance(String uri) {
+			return new SampleLinkBuilder(uri);
+		}
 	}
 }
@@ -27,6 +27,7 @@ import org.springframework.hateoas.Links;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.hal.DefaultCurieProvider.Curie;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -168,6 +169,101 @@ public class DefaultCurieProviderUnitTest {
 				it -> assertThat(it.getHref()).startsWith("http://localhost"));
 	}
 
+	@Test
+	public void cachesCurieInformationPerApplicationUri() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("/docs/{rel}"));
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		Collection<? extends Object> curies = provider.getCurieInformation(new Links());
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		assertThat(provider.getCurieInformation(new Links())).isSameAs(curies);
+
+		MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+		otherRequest.setServerName("example.com");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(otherRequest));
+
+		Collection<? extends Object> otherCuries = provider.getCurieInformation(new Links());
+
+		assertThat(otherCuries).isNotSameAs(curies);
+		assertThat(otherCuries).hasOnlyElementsOfType(Curie.class);
+		assertThat(((Curie) otherCuries.iterator().next()).getHref()).startsWith("http://example.com");
+
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void rendersRelativeTemplatesAsIsWithoutRequest() {
+
+		RequestContextHolder.resetRequestAttributes();
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("/docs/{rel}"));
+
+		Collection<? extends Object> curies = provider.getCurieInformation(new Links());
+
+		assertThat(curies).hasOnlyElementsOfType(Curie.class);
+		assertThat(((Curie) curies.iterator().next()).getHref()).isEqualTo("/docs/{rel}");
+	}
+
+	@Test
+	public void limitsCachedCurieInformationForRelativeTemplates() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("/docs/{rel}"));
+
+		for (int i = 0; i < 300; i++) {
+
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setServerName("host" + i + ".com");
+			RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+			provider.getCurieInformation(new Links());
+		}
+
+		RequestContextHolder.resetRequestAttributes();
+
+		Map<?, ?> cache = (Map<?, ?>) ReflectionTestUtils.getField(provider, "curieInformation");
+
+		assertThat(cache.size()).isLessThanOrEqualTo(256);
+	}
+
+	@Test
+	public void cachesCurieInformationForAbsoluteTemplatesWithoutRequest() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("http://acme.com/{rel}"));
+
+		assertThat(provider.getCurieInformation(new Links())).isSameAs(provider.getCurieInformation(new Links()));
+	}
+
+	@Test
+	public void doesNotCacheCurieInformationIfHrefIsCustomized() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("http://acme.com/{rel}")) {
+
+			@Override
+			protected String getCurieHref(String name, UriTemplate template) {
+				return "http://custom.com/{rel}";
+			}
+		};
+
+		Collection<? extends Object> curies = provider.getCurieInformation(new Links());
+
+		assertThat(provider.getCurieInformation(new Links())).isNotSameAs(curies);
+		assertThat(((Curie) curies.iterator().next()).getHref()).isEqualTo("http://custom.com/{rel}");
+	}
+
+	@Test
+	public void memoizesNamespacedRels() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("acme", new UriTemplate("http://acme.com/{rel}"));
+
+		assertThat(provider.getNamespacedRelFor("book")).isEqualTo("acme:book");
+		assertThat(provider.getNamespacedRelFor("book")).isSameAs(provider.getNamespacedRelFor("book"));
+	}
+
 	private static Map<String, UriTemplate> getCuries() {
 
 		Map<String, UriTemplate> curies = new HashMap<>(2);
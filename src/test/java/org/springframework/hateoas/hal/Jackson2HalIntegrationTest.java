@@ -23,6 +23,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,8 +39,10 @@ import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.PagedResources.PageMetadata;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamedContent;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.core.AnnotationRelProvider;
 import org.springframework.hateoas.core.EmbeddedWrappers;
@@ -453,6 +458,90 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(write(resourceSupport)).isEqualTo("{\"_links\":{\"self\":[{\"href\":\"localhost\"}]}}");
 	}
 
+	@Test
+	public void rendersStreamedContentAsEmbedded() throws Exception {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<Resource<SimpleAnnotatedPojo>> stream = Stream
+				.of(new Resource<>(new SimpleAnnotatedPojo("test1", 1), new Link("localhost")),
+						new Resource<>(new SimpleAnnotatedPojo("test2", 2), new Link("localhost")))
+				.onClose(() -> closed.set(true));
+
+		assertThat(write(Resources.adopt(StreamedContent.of(stream)))).isEqualTo(ANNOTATED_EMBEDDED_RESOURCES_REFERENCE);
+		assertThat(closed.get()).isTrue();
+	}
+
+	@Test
+	public void rendersStreamedContentUnderDeclaredRel() throws Exception {
+
+		Resources<String> resources = Resources.adopt(StreamedContent.of(Stream.of("first", "second")).withRel("strings"),
+				new Link("localhost"));
+
+		assertThat(write(resources))
+				.isEqualTo("{\"_embedded\":{\"strings\":[\"first\",\"second\"]},\"_links\":{\"self\":{\"href\":\"localhost\"}}}");
+	}
+
+	@Test
+	public void rendersSingleStreamedElementAsArray() throws Exception {
+
+		Resource<SimpleAnnotatedPojo> resource = new Resource<>(new SimpleAnnotatedPojo("test1", 1), new Link("localhost"));
+		Resources<Resource<SimpleAnnotatedPojo>> resources = Resources.adopt(StreamedContent.of(Stream.of(resource)),
+				new Link("localhost"));
+
+		assertThat(write(resources)).isEqualTo(ANNOTATED_EMBEDDED_RESOURCE_REFERENCE);
+	}
+
+	@Test
+	public void doesNotRenderEmptyStreamedContent() throws Exception {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<Object> stream = Stream.empty().onClose(() -> closed.set(true));
+
+		assertThat(write(Resources.adopt(StreamedContent.of(stream)))).isEqualTo(EMPTY_DOCUMENT);
+		assertThat(closed.get()).isTrue();
+	}
+
+	@Test
+	public void rendersCuriesForCuriedStreamedContent() throws Exception {
+
+		Resource<SimpleAnnotatedPojo> resource = new Resource<>(new SimpleAnnotatedPojo("test1", 1));
+		Resources<Resource<SimpleAnnotatedPojo>> resources = Resources.adopt(StreamedContent.of(Stream.of(resource)));
+
+		String result = getCuriedObjectMapper().writeValueAsString(resources);
+
+		assertThat(result).contains("\"_embedded\":{\"foo:pojos\":[");
+		assertThat(result).contains("\"curies\":[{\"href\":\"http://localhost:8080/rels/{rel}\"");
+	}
+
+	@Test
+	public void doesNotRenderCuriesForStreamedContentWithoutCuriedRels() throws Exception {
+
+		Resources<String> resources = Resources.adopt(StreamedContent.of(Stream.of("first")).withRel("strings"),
+				new Link("localhost"));
+
+		assertThat(getCuriedObjectMapper().writeValueAsString(resources))
+				.isEqualTo("{\"_embedded\":{\"strings\":[\"first\"]},\"_links\":{\"self\":{\"href\":\"localhost\"}}}");
+	}
+
+	@Test
+	public void convertsMappedContentOnlyOnceWhenRendering() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+		ResourceAssembler<String, Resource<SimpleAnnotatedPojo>> assembler = it -> {
+			invocations.incrementAndGet();
+			return new Resource<>(new SimpleAnnotatedPojo(it, 1));
+		};
+
+		Resources<Resource<SimpleAnnotatedPojo>> resources = Resources.mapped(Arrays.asList("test1", "test2"), assembler,
+				new Link("localhost"));
+
+		String result = getCuriedObjectMapper().writeValueAsString(resources);
+
+		assertThat(invocations.get()).isEqualTo(2);
+		assertThat(result).contains("\"_embedded\":{\"foo:pojos\":[");
+		assertThat(result).contains("\"curies\":[{\"href\":\"http://localhost:8080/rels/{rel}\"");
+	}
+
 	private static void verifyResolvedTitle(String resourceBundleKey) throws Exception {
 
 		LocaleContextHolder.setLocale(Locale.US);
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.annotation.NumberFormat;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.ParameterConverter;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * Unit tests for {@link AnnotatedParametersParameterAccessor}.
+ *
+ * @author Oliver Gierke
+ */
+public class AnnotatedParametersParameterAccessorUnitTest {
+
+	@Test
+	public void convertsSimpleValuesDirectly() {
+
+		UUID uuid = UUID.randomUUID();
+
+		assertThat(converterFor(0).convert("foo")).isEqualTo("foo");
+		assertThat(converterFor(1).convert(4711L)).isEqualTo("4711");
+		assertThat(converterFor(2).convert(42)).isEqualTo("42");
+		assertThat(converterFor(3).convert(uuid)).isEqualTo(uuid.toString());
+		assertThat(converterFor(4).convert(Status.ACTIVE)).isEqualTo("ACTIVE");
+		assertThat(converterFor(5).convert(4711L)).isEqualTo("4711");
+	}
+
+	@Test
+	public void usesConversionServiceForFormattedParameters() {
+		assertThat(converterFor(6).convert(7)).isEqualTo("007");
+	}
+
+	@Test
+	public void returnsNullForNullValue() {
+		assertThat(converterFor(1).convert(null)).isNull();
+	}
+
+	@Test
+	public void cachesConverterPerParameter() {
+		assertThat(converterFor(1)).isSameAs(converterFor(1));
+	}
+
+	private static ParameterConverter converterFor(int index) {
+
+		Method method = ReflectionUtils.findMethod(Sample.class, "method", (Class<?>[]) null);
+
+		return ParameterConverter.of(new MethodParameter(method, index));
+	}
+
+	enum Status {
+
+		ACTIVE {
+
+			@Override
+			public String toString() {
+				return "active";
+			}
+		};
+	}
+
+	interface Sample {
+
+		void method(@PathVariable String string, @PathVariable Long boxed, @PathVariable int primitive,
+				@PathVariable UUID uuid, @PathVariable Status status, @PathVariable Optional<Long> optional,
+				@PathVariable @NumberFormat(pattern = "000") Integer padded);
+	}
+}
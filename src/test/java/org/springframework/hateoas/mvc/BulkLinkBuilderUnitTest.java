@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link BulkLinkBuilder}.
+ *
+ * @author Oliver Gierke
+ */
+public class BulkLinkBuilderUnitTest extends TestUtils {
+
+	@Test
+	public void createsSameLinksAsControllerLinkBuilder() {
+
+		BulkLinkBuilder builder = BulkLinkBuilder.linkTo(TenantController.class, "acme corp");
+
+		for (Object id : new Object[] { 1L, "foo bar", "foo/bar", "foo?bar=baz", " foo ", Optional.of(2L), "ümlaut" }) {
+			assertThat(builder.withSelfRel(id))
+					.isEqualTo(ControllerLinkBuilder.linkTo(TenantController.class, "acme corp").slash(id).withSelfRel());
+		}
+	}
+
+	@Test
+	public void pointsToBaseForNullOrEmptyIdentifier() {
+
+		BulkLinkBuilder builder = BulkLinkBuilder.linkTo(TenantController.class, "acme");
+
+		assertThat(builder.withRel(null, "tenant").getHref()).isEqualTo("http://localhost/tenants/acme/customers");
+		assertThat(builder.withRel(Optional.empty(), "tenant").getHref())
+				.isEqualTo("http://localhost/tenants/acme/customers");
+	}
+
+	@Test
+	public void appendsIdentifierToBaseContainingQuery() {
+
+		BulkLinkBuilder builder = BulkLinkBuilder.of(ControllerLinkBuilder.linkTo(TenantController.class, "acme") //
+				.slash("?page=1"));
+
+		assertThat(builder.withSelfRel(1L).getHref()).isEqualTo("http://localhost/tenants/acme/customers/1?page=1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullBase() {
+		BulkLinkBuilder.of(null);
+	}
+
+	@RequestMapping("/tenants/{tenant}/customers")
+	static class TenantController {}
+}
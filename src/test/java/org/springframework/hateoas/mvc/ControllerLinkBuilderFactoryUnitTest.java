@@ -173,6 +173,44 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 		assertThat(link.getHref()).endsWith("/people/17/addresses");
 	}
 
+	@Test
+	public void bindsFreshArgumentsForRepeatedInvocationsOfTheSameMethod() {
+
+		Link first = factory.linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("first")).withSelfRel();
+		Link second = factory.linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("second"))
+				.withSelfRel();
+
+		assertThat(first.getHref()).endsWith("/something/first/foo");
+		assertThat(second.getHref()).endsWith("/something/second/foo");
+	}
+
+	@Test
+	public void appliesContributorsConfiguredAfterFirstLinkCreation() {
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+
+		SpecialType specialType = new SpecialType();
+		specialType.parameterValue = "value";
+
+		Link link = factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, specialType)).withSelfRel();
+		assertThat(link.getHref()).endsWith("/sample/1");
+
+		factory.setUriComponentsContributors(Arrays.asList(new SampleUriComponentsContributor()));
+
+		link = factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, specialType)).withSelfRel();
+		assertThat(link.getHref()).endsWith("/sample/1?foo=value");
+	}
+
+	@Test
+	public void createsLinkToMethodWithoutMapping() {
+
+		Link link = new ControllerLinkBuilderFactory().linkTo(methodOn(SampleController.class).unmappedMethod())
+				.withSelfRel();
+
+		assertPointsToMockServer(link);
+		assertThat(link.getHref()).isEqualTo("http://localhost");
+	}
+
 	interface SampleController {
 
 		@RequestMapping("/sample/{id}")
@@ -186,6 +224,8 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 
 		@RequestMapping("/sample/multivaluemapsupport")
 		HttpEntity<?> sampleMethodWithMap(@RequestParam MultiValueMap<String, String> queryParams);
+
+		HttpEntity<?> unmappedMethod();
 	}
 
 	static class SampleUriComponentsContributor implements UriComponentsContributor {
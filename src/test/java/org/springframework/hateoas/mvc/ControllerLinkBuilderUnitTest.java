@@ -36,6 +36,7 @@ import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.hateoas.TestUtils;
 import org.springframework.http.HttpEntity;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.SerializationUtils;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -67,6 +68,18 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref()).endsWith("/people");
 	}
 
+	@Test
+	public void reusesExpandedControllerMappingAcrossRequests() {
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).isEqualTo("http://localhost/people");
+
+		setUp();
+		request.addHeader("X-Forwarded-Host", "somethingDifferent");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref())
+				.isEqualTo("http://somethingDifferent/people");
+	}
+
 	@Test
 	public void createsLinkToParameterizedControllerRoot() {
 
@@ -445,7 +458,7 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 	public void favorsStandardForwardHeaderOverXForwardedProto() {
 
 		request.addHeader("X-Forwarded-Proto", "foo");
-		request.addHeader(ForwardedHeader.NAME, "proto=bar");
+		request.addHeader("Forwarded", "proto=bar");
 
 		Link link = linkTo(PersonControllerImpl.class).withSelfRel();
 		assertThat(link.getHref(), startsWith("bar://"));
@@ -590,6 +603,97 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref()).isEqualTo("http://localhost/something/bar/foo");
 	}
 
+	@Test
+	public void resolvesBaseUriOnlyOncePerRequest() {
+
+		request.addHeader("X-Forwarded-Host", "somethingDifferent");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref())
+				.isEqualTo("http://somethingDifferent/people");
+
+		request.removeHeader("X-Forwarded-Host");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref())
+				.isEqualTo("http://somethingDifferent/people");
+
+		setUp();
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).isEqualTo("http://localhost/people");
+	}
+
+	@Test
+	public void calculatesAffordancesLazily() {
+
+		ControllerLinkBuilder builder = linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("bar"));
+		LazyAffordances affordances = (LazyAffordances) builder.getAffordances();
+
+		Link link = builder.withSelfRel();
+
+		assertThat(link.getHref()).isEqualTo("http://localhost/something/bar/foo");
+		assertThat(affordances.isResolved()).isFalse();
+
+		assertThat(link.getAffordances()).isEmpty();
+		assertThat(affordances.isResolved()).isTrue();
+	}
+
+	@Test
+	public void doesNotResolveAffordancesWhenComparingLinksWithDifferentAttributes() {
+
+		ControllerLinkBuilder builder = linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("bar"));
+		LazyAffordances affordances = (LazyAffordances) builder.getAffordances();
+
+		assertThat(builder.withSelfRel()).isNotEqualTo(new Link("http://localhost/something/bar/foo", "other"));
+		assertThat(affordances.isResolved()).isFalse();
+	}
+
+	@Test
+	public void serializesLinkWithLazyAffordances() {
+
+		Link link = linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("bar")).withSelfRel();
+		Object result = SerializationUtils.deserialize(SerializationUtils.serialize(link));
+
+		assertThat(result).isEqualTo(link);
+		assertThat(((Link) result).getAffordances()).isEmpty();
+	}
+
+	@Test
+	public void createsLinkToMethodReference() {
+
+		Link link = linkTo(ControllerWithMethods::methodWithPathVariable, "bar").withSelfRel();
+
+		assertThat(link.getHref()).isEqualTo("http://localhost/something/bar/foo");
+	}
+
+	@Test
+	public void createsSameLinkForMethodReferenceAsForMethodOn() {
+
+		Link reference = linkTo(ControllerWithMethods::methodForNextPage, "1", null, 10).withSelfRel();
+		Link invocation = linkTo(methodOn(ControllerWithMethods.class).methodForNextPage("1", null, 10)).withSelfRel();
+
+		assertThat(reference).isEqualTo(invocation);
+	}
+
+	@Test
+	public void usesTypeMappingOfMethodReferenceReceiverType() {
+
+		Link link = linkTo(ChildWithTypeMapping::myMethod).withSelfRel();
+
+		assertThat(link.getHref()).endsWith("/child/parent");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsLambdaExpressionsAsMethodReference() {
+		linkTo((MethodReferences.Reference0<ControllerWithMethods>) it -> it.myMethod(null));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsBoundMethodReference() {
+
+		ControllerWithMethods controller = new ControllerWithMethods();
+
+		linkTo((MethodReferences.Reference0<String>) controller::methodWithPathVariable);
+	}
+
 	private static UriComponents toComponents(Link link) {
 		return UriComponentsBuilder.fromUriString(link.expand().getHref()).build();
 	}
@@ -17,6 +17,11 @@ package org.springframework.hateoas.mvc;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
 import org.junit.Test;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TestUtils;
@@ -32,6 +37,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
  */
 public class DummyInvocationUtilsUnitTest extends TestUtils {
 
+	@After
+	public void tearDown() {
+		DummyInvocationUtils.setRecycleProxies(false);
+	}
+
 	@Test
 	public void pathVariableWithDefaultParameter() {
 
@@ -48,6 +58,88 @@ public class DummyInvocationUtilsUnitTest extends TestUtils {
 		assertThat(link.getHref()).isEqualTo("http://localhost/sample/2/bar");
 	}
 
+	@Test
+	public void reusesProxyOnceInvocationWasConsumedIfRecyclingIsEnabled() {
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		SampleController first = DummyInvocationUtils.methodOn(SampleController.class);
+		Link firstLink = ControllerLinkBuilder.linkTo(first.someMethod(1L)).withSelfRel();
+
+		SampleController second = DummyInvocationUtils.methodOn(SampleController.class);
+		Link secondLink = ControllerLinkBuilder.linkTo(second.someOtherMethod(2L)).withSelfRel();
+
+		assertThat(second).isSameAs(first);
+		assertThat(firstLink.getHref()).isEqualTo("http://localhost/sample/1/foo");
+		assertThat(secondLink.getHref()).isEqualTo("http://localhost/sample/2/bar");
+	}
+
+	@Test
+	public void createsNewProxyIfRecycledOneWasNotConsumedYet() {
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		SampleController first = DummyInvocationUtils.methodOn(SampleController.class);
+		SampleController second = DummyInvocationUtils.methodOn(SampleController.class);
+
+		assertThat(second).isNotSameAs(first);
+	}
+
+	@Test
+	public void doesNotReuseProxiesByDefault() {
+
+		SampleController first = DummyInvocationUtils.methodOn(SampleController.class);
+		ControllerLinkBuilder.linkTo(first.someMethod(1L));
+
+		assertThat(DummyInvocationUtils.methodOn(SampleController.class)).isNotSameAs(first);
+	}
+
+	@Test
+	public void dropsProxiesRecycledOnOtherThreadsOnceRecyclingIsDisabled() throws Exception {
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		Callable<SampleController> recordAndRelease = () -> {
+
+			SampleController proxy = DummyInvocationUtils.methodOn(SampleController.class);
+			DummyInvocationUtils.release(proxy.someMethod(1L));
+
+			return proxy;
+		};
+
+		try {
+
+			SampleController first = executor.submit(recordAndRelease).get();
+
+			assertThat(executor.submit(recordAndRelease).get()).isSameAs(first);
+
+			DummyInvocationUtils.setRecycleProxies(false);
+			DummyInvocationUtils.setRecycleProxies(true);
+
+			assertThat(executor.submit(recordAndRelease).get()).isNotSameAs(first);
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void createsLinkToInterfaceBasedController() {
+
+		Link link = ControllerLinkBuilder.linkTo(DummyInvocationUtils.methodOn(SampleInterface.class).someMethod(3L))
+				.withSelfRel();
+		assertThat(link.getHref()).isEqualTo("http://localhost/interface/3");
+	}
+
+	@RequestMapping("/interface")
+	interface SampleInterface {
+
+		@RequestMapping("/{id}")
+		HttpEntity<Void> someMethod(@PathVariable("id") Long id);
+	}
+
 	@RequestMapping("/sample")
 	static class SampleController {
 
@@ -21,6 +21,12 @@ import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -103,6 +109,120 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 		assertThat(result).contains(firstResource, secondResource);
 	}
 
+	@Test
+	public void createsSelfLinksForAllEntitiesConvertedInBulk() {
+
+		Person first = new Person();
+		first.id = 1L;
+		Person second = new Person();
+		second.id = 2L;
+
+		List<PersonResource> result = new PersonResourceAssembler(ParameterizedController.class) {
+
+			@Override
+			public PersonResource toResource(Person entity) {
+				return createResource(entity, person, "bar");
+			}
+
+		}.toResources(Arrays.asList(first, second));
+
+		assertThat(result).extracting(it -> it.getRequiredLink(Link.REL_SELF).getHref()).containsExactly(
+				"http://localhost/people/10/bar/addresses/1", "http://localhost/people/10/bar/addresses/2");
+	}
+
+	@Test
+	public void convertsLargeCollectionsInParallelPreservingOrderAndRequestContext() throws Exception {
+
+		request.addHeader("X-Forwarded-Host", "somethingDifferent");
+
+		List<Person> people = IntStream.range(0, 100).mapToObj(it -> {
+
+			Person person = new Person();
+			person.id = (long) it;
+			return person;
+
+		}).collect(Collectors.toList());
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		try {
+
+			assembler.setParallelExecutor(it -> executor.execute(() -> {
+				threads.add(Thread.currentThread());
+				it.run();
+			}));
+			assembler.setParallelThreshold(10);
+
+			List<PersonResource> result = assembler.toResources(people);
+
+			assertThat(threads).isNotEmpty().doesNotContain(Thread.currentThread());
+			assertThat(result).extracting(it -> it.getRequiredLink(Link.REL_SELF).getHref()) //
+					.containsExactlyElementsOf(people.stream() //
+							.map(it -> "http://somethingDifferent/people/" + it.id) //
+							.collect(Collectors.toList()));
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void convertsNestedCollectionsOnWorkerThreadOfSameExecutor() {
+
+		List<Person> people = IntStream.range(0, 20).mapToObj(it -> {
+
+			Person person = new Person();
+			person.id = (long) it;
+			return person;
+
+		}).collect(Collectors.toList());
+
+		ExecutorService executor = Executors.newFixedThreadPool(1);
+
+		try {
+
+			PersonResourceAssembler nested = new PersonResourceAssembler();
+			nested.setParallelExecutor(executor);
+			nested.setParallelThreshold(10);
+
+			PersonResourceAssembler assembler = new PersonResourceAssembler() {
+
+				@Override
+				public PersonResource toResource(Person entity) {
+
+					PersonResource resource = super.toResource(entity);
+					resource.add(nested.toResources(people).get(0).getLinks());
+
+					return resource;
+				}
+			};
+
+			assembler.setParallelExecutor(executor);
+			assembler.setParallelThreshold(10);
+
+			assertThat(assembler.toResources(people)).hasSize(20);
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void convertsSmallCollectionsOnCallingThread() {
+
+		assembler.setParallelExecutor(it -> {
+			throw new IllegalStateException("Should not be invoked!");
+		});
+
+		assertThat(assembler.toResources(Arrays.asList(person))).hasSize(1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidParallelThreshold() {
+		assembler.setParallelThreshold(0);
+	}
+
 	@RequestMapping("/people")
 	static class PersonController {
 
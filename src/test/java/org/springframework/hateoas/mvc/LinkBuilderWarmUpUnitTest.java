@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.mvc.LinkBuilderWarmUp.Report;
+import org.springframework.http.HttpEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link LinkBuilderWarmUp}.
+ *
+ * @author Oliver Gierke
+ */
+public class LinkBuilderWarmUpUnitTest extends TestUtils {
+
+	@Test
+	public void warmsUpControllerMethodsOnContextRefresh() throws Exception {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+
+			Report report = context.getBean(LinkBuilderWarmUp.class).getReport();
+
+			assertThat(report).isNotNull();
+			assertThat(report.getMethodCount()).isEqualTo(3);
+			assertThat(report.getSkippedMethods()) //
+					.containsExactly(SampleController.class.getMethod("finalMethod"));
+			assertThat(report.getDurations()).containsOnlyKeys("proxies", "mappings", "link recipes", "affordances");
+			assertThat(report.toString()).startsWith("Warmed up link building for 3 controller methods");
+		}
+	}
+
+	@Test
+	public void linksCanBeBuiltAfterWarmUp() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+
+			assertThat(linkTo(methodOn(SampleController.class).show(4711L)).withSelfRel().getHref())
+					.isEqualTo("http://localhost/warm-up/4711");
+		}
+	}
+
+	@Test
+	public void onlyWarmsUpOnce() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+
+			LinkBuilderWarmUp warmUp = context.getBean(LinkBuilderWarmUp.class);
+			Report report = warmUp.getReport();
+
+			context.publishEvent(new ContextRefreshedEvent(context));
+
+			assertThat(warmUp.getReport()).isSameAs(report);
+		}
+	}
+
+	@Configuration
+	static class Config {
+
+		@Bean
+		SampleController sampleController() {
+			return new SampleController();
+		}
+
+		@Bean
+		LinkBuilderWarmUp linkBuilderWarmUp() {
+			return new LinkBuilderWarmUp();
+		}
+	}
+
+	@Controller
+	@RequestMapping("/warm-up")
+	static class SampleController {
+
+		@GetMapping("/{id}")
+		public HttpEntity<String> show(@PathVariable Long id) {
+			return null;
+		}
+
+		@PutMapping("/{id}")
+		public HttpEntity<Void> update(@PathVariable long id, @RequestBody Payload payload) {
+			return null;
+		}
+
+		@GetMapping("/final")
+		public final HttpEntity<Void> finalMethod() {
+			return null;
+		}
+
+		public HttpEntity<Void> unmapped() {
+			return null;
+		}
+	}
+
+	static class Payload {
+
+		public String name;
+	}
+}
@@ -25,7 +25,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -42,6 +44,7 @@ import org.springframework.hateoas.PagedResources.PageMetadata;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamedContent;
 import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.hateoas.mvc.ResourceProcessorInvoker.ResourcesProcessorWrapper;
 import org.springframework.http.HttpEntity;
@@ -314,6 +317,24 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		invokeReturnValueHandler("wildcardedResources", FOOS, BARS);
 	}
 
+	@Test
+	public void processesElementsOfStreamedContentWhenRead() {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+		AtomicInteger reads = new AtomicInteger();
+		Resources<Resource<String>> resources = Resources
+				.adopt(StreamedContent.of(Stream.of(FOO, FOO).peek(it -> reads.incrementAndGet())));
+
+		Resources<Resource<String>> result = new ResourceProcessorInvoker(resourceProcessors)
+				.invokeProcessorsFor(resources, ResolvableType.forMethodParameter(METHOD_PARAMS.get("resources")));
+
+		assertThat(reads.get()).isEqualTo(0);
+		assertThat(result.getContent()).isInstanceOf(StreamedContent.class);
+		assertThat(result.getContent().iterator()).containsExactly(BAR, BAR);
+		assertThat(reads.get()).isEqualTo(2);
+	}
+
 	private void invokeReturnValueHandler(String method, Object returnValue, Object expected) throws Exception {
 
 		MethodParameter methodParam = METHOD_PARAMS.get(method);
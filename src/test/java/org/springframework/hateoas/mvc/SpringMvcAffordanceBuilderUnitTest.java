@@ -17,18 +17,33 @@ package org.springframework.hateoas.mvc;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 import org.springframework.core.annotation.Order;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.AffordanceModel;
 import org.springframework.hateoas.core.AffordanceModelFactory;
+import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * @author Greg Turnquist
@@ -53,6 +68,69 @@ public class SpringMvcAffordanceBuilderUnitTest {
 		assertThat(registry.getPluginFor(MediaType.APPLICATION_JSON).get()).isEqualTo(high);
 	}
 
+	@Test
+	public void reusesMethodMetadataButCreatesModelsPerLink() {
+
+		RecordingModelFactory factory = new RecordingModelFactory();
+		SpringMvcAffordanceBuilder builder = new SpringMvcAffordanceBuilder(
+				OrderAwarePluginRegistry.create(Collections.singletonList(factory)));
+		AnnotationMappingDiscoverer discoverer = new AnnotationMappingDiscoverer(RequestMapping.class);
+
+		UriComponents first = UriComponentsBuilder.fromUriString("/employees/1").build();
+		UriComponents second = UriComponentsBuilder.fromUriString("/employees/2").build();
+
+		Collection<Affordance> firstAffordances = builder.create(invocationOf(1L), discoverer, first);
+		Collection<Affordance> secondAffordances = builder.create(invocationOf(2L), discoverer, second);
+
+		assertThat(firstAffordances).extracting(Affordance::getHttpMethod).containsExactly(HttpMethod.PUT,
+				HttpMethod.PATCH);
+		assertThat(secondAffordances).extracting(Affordance::getHttpMethod).containsExactly(HttpMethod.PUT,
+				HttpMethod.PATCH);
+
+		Affordance affordance = firstAffordances.iterator().next();
+
+		assertThat(affordance.getInputMethodParameters()).hasSize(1);
+		assertThat(affordance.getQueryMethodParameters()).extracting(it -> it.getName()).containsExactly("force");
+		assertThat(affordance.getInputMethodParameters())
+				.isSameAs(secondAffordances.iterator().next().getInputMethodParameters());
+
+		assertThat(factory.components).containsExactly(first, first, second, second);
+	}
+
+	private static MethodInvocation invocationOf(Long id) {
+
+		EmployeeController controller = DummyInvocationUtils.methodOn(EmployeeController.class);
+		controller.updateEmployee(null, id, false);
+
+		return ((LastInvocationAware) controller).getLastInvocation();
+	}
+
+	interface EmployeeController {
+
+		@RequestMapping(path = "/employees/{id}", method = { RequestMethod.PUT, RequestMethod.PATCH })
+		HttpEntity<?> updateEmployee(@RequestBody Object employee, @PathVariable Long id,
+				@RequestParam(name = "force") boolean force);
+	}
+
+	static class RecordingModelFactory implements AffordanceModelFactory {
+
+		List<UriComponents> components = new ArrayList<>();
+
+		@Override
+		public AffordanceModel getAffordanceModel(Affordance affordance, MethodInvocation invocationValue,
+				UriComponents components) {
+
+			this.components.add(components);
+
+			return () -> Collections.singleton(MediaType.APPLICATION_JSON);
+		}
+
+		@Override
+		public boolean supports(MediaType delimiter) {
+			return true;
+		}
+	}
+
 	@Order(20)
 	static class LowPriorityModelFactory implements AffordanceModelFactory {
 
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc.processor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.mvc.ControllerLinkBuilder;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link ControllerLinksProcessor}.
+ *
+ * @author Oliver Gierke
+ */
+public class ControllerLinksProcessorUnitTest extends TestUtils {
+
+	static final String SOURCE = "package com.acme;\n" //
+			+ "import org.springframework.web.bind.annotation.*;\n" //
+			+ "@RestController @RequestMapping(\"/tenants/{tenant}/customers\")\n" //
+			+ "public class CustomerController {\n" //
+			+ "  public enum Status { ACTIVE }\n" //
+			+ "  @GetMapping(\"/{id}\") public Object show(@PathVariable Long id) { return null; }\n" //
+			+ "  @GetMapping public Object list(@RequestParam(required = false) Status status, @RequestParam int page) { return null; }\n" //
+			+ "  @GetMapping(\"/search\") public Object search(@RequestParam java.util.Date date) { return null; }\n" //
+			+ "  @GetMapping(\"/builders/{builder}\") public Object builder(@PathVariable String builder, @RequestParam String name) { return null; }\n" //
+			+ "}\n";
+
+	Path folder;
+
+	@Before
+	public void setUpFolder() throws IOException {
+		this.folder = Files.createTempDirectory("processor");
+	}
+
+	@Test
+	public void generatesLinkFactoryForController() throws Exception {
+
+		try (URLClassLoader classLoader = compile()) {
+
+			Class<?> links = classLoader.loadClass("com.acme.CustomerControllerLinks");
+
+			Object builder = ReflectionUtils.findMethod(links, "show", Object.class, Long.class).invoke(null, "acme", 42L);
+			assertThat(((ControllerLinkBuilder) builder).withSelfRel().getHref())
+					.isEqualTo("http://localhost/tenants/acme/customers/42");
+
+		} finally {
+			FileSystemUtils.deleteRecursively(folder.toFile());
+		}
+	}
+
+	@Test
+	public void bindsRequestParametersAndSkipsNullValues() throws Exception {
+
+		try (URLClassLoader classLoader = compile()) {
+
+			Class<?> links = classLoader.loadClass("com.acme.CustomerControllerLinks");
+			Class<?> status = classLoader.loadClass("com.acme.CustomerController$Status");
+			Object active = status.getEnumConstants()[0];
+
+			Object builder = ReflectionUtils.findMethod(links, "list", Object.class, status, int.class).invoke(null, "acme",
+					active, 2);
+			assertThat(((ControllerLinkBuilder) builder).withSelfRel().getHref())
+					.isEqualTo("http://localhost/tenants/acme/customers?status=ACTIVE&page=2");
+
+			builder = ReflectionUtils.findMethod(links, "list", Object.class, status, int.class).invoke(null, "acme", null, 2);
+			assertThat(((ControllerLinkBuilder) builder).withSelfRel().getHref())
+					.isEqualTo("http://localhost/tenants/acme/customers?page=2");
+
+		} finally {
+			FileSystemUtils.deleteRecursively(folder.toFile());
+		}
+	}
+
+	@Test
+	public void generatesLinkMethodForParameterNamedLikeLocalVariable() throws Exception {
+
+		try (URLClassLoader classLoader = compile()) {
+
+			Class<?> links = classLoader.loadClass("com.acme.CustomerControllerLinks");
+
+			Object builder = ReflectionUtils.findMethod(links, "builder", Object.class, String.class, String.class)
+					.invoke(null, "acme", "foo", "bar");
+			assertThat(((ControllerLinkBuilder) builder).withSelfRel().getHref())
+					.isEqualTo("http://localhost/tenants/acme/customers/builders/foo?name=bar");
+
+		} finally {
+			FileSystemUtils.deleteRecursively(folder.toFile());
+		}
+	}
+
+	@Test
+	public void skipsMethodsWithParametersOfUnsupportedType() throws Exception {
+
+		try (URLClassLoader classLoader = compile()) {
+
+			Class<?> links = classLoader.loadClass("com.acme.CustomerControllerLinks");
+
+			assertThat(Arrays.stream(links.getDeclaredMethods()).map(it -> it.getName())) //
+					.contains("show", "list") //
+					.doesNotContain("search");
+
+		} finally {
+			FileSystemUtils.deleteRecursively(folder.toFile());
+		}
+	}
+
+	private URLClassLoader compile() throws IOException {
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		File source = folder.resolve("CustomerController.java").toFile();
+		Files.write(source.toPath(), SOURCE.getBytes(StandardCharsets.UTF_8));
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+					Arrays.asList("-d", folder.toString(), "-classpath", System.getProperty("java.class.path")), null,
+					fileManager.getJavaFileObjectsFromFiles(Collections.singletonList(source)));
+
+			task.setProcessors(Collections.singletonList(new ControllerLinksProcessor()));
+
+			assertThat(task.call()).isTrue();
+		}
+
+		return new URLClassLoader(new URL[] { folder.toUri().toURL() }, getClass().getClassLoader());
+	}
+}